@@ -14,4 +14,9 @@ public class ControllerExceptionHandler {
     public ErrorResponse notFound(NoSuchElementException ex) {
         return ErrorResponse.create(ex, HttpStatus.NOT_FOUND, ex.getMessage());
     }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ErrorResponse badRequest(IllegalArgumentException ex) {
+        return ErrorResponse.create(ex, HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
 }
@@ -0,0 +1,74 @@
+package code.with.vanilson.events.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * ReferenceDataCacheMetrics
+ * <p>
+ * Publishes the second-level cache statistics on the actuator: {@code events.cache.requests}
+ * (tagged {@code region} and {@code result=hit|miss}), {@code events.cache.size} and
+ * {@code events.cache.hit.ratio} per entity region, plus the same for the query cache
+ * ({@code region=query}).
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class ReferenceDataCacheMetrics implements MeterBinder {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public ReferenceDataCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            if (statistics.getCacheRegionStatistics(region) == null) {
+                continue;
+            }
+            bind(registry, region, statistics,
+                    s -> regionCount(s, region, CacheRegionStatistics::getHitCount),
+                    s -> regionCount(s, region, CacheRegionStatistics::getMissCount));
+            Gauge.builder("events.cache.size", statistics, s -> regionCount(s, region, CacheRegionStatistics::getElementCountInMemory))
+                    .tag("region", region)
+                    .register(registry);
+        }
+        bind(registry, "query", statistics, Statistics::getQueryCacheHitCount, Statistics::getQueryCacheMissCount);
+    }
+
+    private static void bind(MeterRegistry registry, String region, Statistics statistics,
+                             ToLongFunction<Statistics> hits, ToLongFunction<Statistics> misses) {
+        FunctionCounter.builder("events.cache.requests", statistics, s -> hits.applyAsLong(s))
+                .tags("region", region, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("events.cache.requests", statistics, s -> misses.applyAsLong(s))
+                .tags("region", region, "result", "miss")
+                .register(registry);
+        Gauge.builder("events.cache.hit.ratio", statistics, s -> {
+                    long hit = hits.applyAsLong(s);
+                    long total = hit + misses.applyAsLong(s);
+                    return total == 0 ? 0 : (double) hit / total;
+                })
+                .tag("region", region)
+                .register(registry);
+    }
+
+    private static long regionCount(Statistics statistics, String region, ToLongFunction<CacheRegionStatistics> count) {
+        CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+        return regionStatistics == null ? 0 : count.applyAsLong(regionStatistics);
+    }
+}
@@ -0,0 +1,41 @@
+package code.with.vanilson.events.events;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * CatalogueImport
+ * <p>
+ * A catalogue to load in one request: organizers with their events, and each event with its
+ * venue and products. Venues with identical details are stored once.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record CatalogueImport(List<OrganizerImport> organizers) {
+
+    public record OrganizerImport(String name, String description, List<EventImport> events) {
+    }
+
+    public record EventImport(String name, VenueImport venue, LocalDate startDate, LocalDate endDate,
+                              List<ProductImport> products) {
+    }
+
+    public record VenueImport(String name, String street, String city, String country) {
+    }
+
+    public record ProductImport(String name, String description, BigDecimal price) {
+    }
+
+    /**
+     * @param elapsedMillis time spent writing the catalogue
+     */
+    public record Result(int organizers, int venues, int events, int products, long elapsedMillis) {
+
+        public double rowsPerSecond() {
+            return elapsedMillis == 0 ? 0 : (organizers + venues + events + products) * 1000.0 / elapsedMillis;
+        }
+    }
+}
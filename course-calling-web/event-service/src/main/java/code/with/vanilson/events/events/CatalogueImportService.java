@@ -0,0 +1,87 @@
+package code.with.vanilson.events.events;
+
+import code.with.vanilson.events.events.CatalogueImport.EventImport;
+import code.with.vanilson.events.events.CatalogueImport.OrganizerImport;
+import code.with.vanilson.events.events.CatalogueImport.ProductImport;
+import code.with.vanilson.events.events.CatalogueImport.VenueImport;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CatalogueImportService
+ * <p>
+ * Writes a whole catalogue in one transaction. Ids come from pooled sequences, so persisting an
+ * entity does not hit the database; Hibernate sends the rows as ordered JDBC batches of
+ * {@code hibernate.jdbc.batch_size}, and the persistence context is flushed and cleared at the
+ * same interval to keep it small.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Service
+public class CatalogueImportService {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final int batchSize;
+
+    public CatalogueImportService(@Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @Transactional
+    public CatalogueImport.Result importCatalogue(CatalogueImport catalogue) {
+        long start = System.nanoTime();
+        Batch batch = new Batch();
+        Map<VenueImport, Venue> venues = new HashMap<>();
+        int events = 0;
+        int products = 0;
+        List<OrganizerImport> organizers = catalogue.organizers() == null ? List.of() : catalogue.organizers();
+        for (OrganizerImport organizerImport : organizers) {
+            Organizer organizer = batch.persist(new Organizer(0, organizerImport.name(), organizerImport.description(), 0));
+            for (EventImport eventImport : nullToEmpty(organizerImport.events())) {
+                Venue venue = venues.computeIfAbsent(eventImport.venue(), v ->
+                        batch.persist(new Venue(0, v.name(), v.street(), v.city(), v.country(), 0)));
+                Event event = batch.persist(new Event(0, eventImport.name(),
+                        entityManager.getReference(Organizer.class, organizer.getId()),
+                        entityManager.getReference(Venue.class, venue.getId()),
+                        eventImport.startDate(), eventImport.endDate(), 0));
+                events++;
+                for (ProductImport productImport : nullToEmpty(eventImport.products())) {
+                    batch.persist(new Product(0, event.getId(), productImport.name(), productImport.description(), productImport.price(), 0));
+                    products++;
+                }
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return new CatalogueImport.Result(organizers.size(), venues.size(), events, products,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private final class Batch {
+        private int pending;
+
+        <T> T persist(T entity) {
+            entityManager.persist(entity);
+            if (++pending % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+            return entity;
+        }
+    }
+
+    private static <T> List<T> nullToEmpty(List<T> list) {
+        return list == null ? List.of() : list;
+    }
+}
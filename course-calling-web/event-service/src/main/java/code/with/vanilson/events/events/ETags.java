@@ -0,0 +1,41 @@
+package code.with.vanilson.events.events;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * ETags
+ * <p>
+ * Strong entity tags built from entity ids and versions, so a response can be validated
+ * without loading or serializing its body.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+final class ETags {
+
+    private ETags() {
+        throw new AssertionError("This class cannot be instantiated");
+    }
+
+    static String of(EventView event) {
+        return "\"event-" + event.id() + "-" + event.version() + "\"";
+    }
+
+    static String of(ProductView product) {
+        return "\"product-" + product.id() + "-" + product.version() + "\"";
+    }
+
+    /**
+     * @param tag the ETag of one element; a list changes when any element, the order or the size changes
+     */
+    static <T> String ofAll(List<T> items, Function<T, String> tag) {
+        StringBuilder tags = new StringBuilder();
+        items.forEach(item -> tags.append(tag.apply(item)).append(','));
+        return "\"" + DigestUtils.md5DigestAsHex(tags.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
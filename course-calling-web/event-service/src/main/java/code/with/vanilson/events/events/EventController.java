@@ -1,12 +1,12 @@
 package code.with.vanilson.events.events;
 
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestParam;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Set;
 
 @RestController
 public class EventController {
@@ -14,13 +14,19 @@ public class EventController {
     private final OrganizerRepository organizerRepository;
     private final EventRepository eventRepository;
     private final ProductRepository productRepository;
+    private final CatalogueImportService catalogueImportService;
+    private final int maxIds;
 
     public EventController(OrganizerRepository organizerRepository,
                            EventRepository eventRepository,
-                           ProductRepository productRepository) {
+                           ProductRepository productRepository,
+                           CatalogueImportService catalogueImportService,
+                           @Value("${events.multi-get.max-ids:100}") int maxIds) {
         this.organizerRepository = organizerRepository;
         this.eventRepository = eventRepository;
         this.productRepository = productRepository;
+        this.catalogueImportService = catalogueImportService;
+        this.maxIds = maxIds;
     }
 
     @GetMapping(path = "/organizers")
@@ -28,25 +34,61 @@ public class EventController {
         return organizerRepository.findAll();
     }
 
-    @GetMapping(path = "/events")
-    public List<Event> getEventsByOrganizer(@RequestParam("organizerId") int organizerId) {
-        return eventRepository.findByOrganizerId(organizerId);
+    @GetMapping(path = "/events", params = {"organizerId", "!ids"})
+    public List<EventView> getEventsByOrganizer(@RequestParam("organizerId") int organizerId, WebRequest request) {
+        List<EventView> events = eventRepository.findViewsByOrganizerId(organizerId);
+        return request.checkNotModified(ETags.ofAll(events, ETags::of)) ? null : events;
+    }
+
+    /**
+     * Multi-get, e.g. {@code /events?ids=501,502}; unknown ids are left out of the result. Combined
+     * with {@code organizerId} neither mapping matches and the request is answered with 400.
+     */
+    @GetMapping(path = "/events", params = {"ids", "!organizerId"})
+    public List<EventView> getEventsByIds(@RequestParam("ids") Set<Integer> ids, WebRequest request) {
+        List<EventView> events = eventRepository.findViewsByIdIn(checkIds(ids));
+        return request.checkNotModified(ETags.ofAll(events, ETags::of)) ? null : events;
     }
 
     @GetMapping(path = "/events/{id}")
-    public Event getEventById(@PathVariable("id") int eventId) {
-        return eventRepository.findById(eventId)
+    public EventView getEventById(@PathVariable("id") int eventId, WebRequest request) {
+        EventView event = eventRepository.findViewById(eventId)
                 .orElseThrow(() -> new NoSuchElementException("Event with id " + eventId + " not found"));
+        return request.checkNotModified(ETags.of(event)) ? null : event;
+    }
+
+    @GetMapping(path = "/products", params = {"eventId", "!ids"})
+    public List<ProductView> getProductsByEvent(@RequestParam("eventId") int eventId, WebRequest request) {
+        List<ProductView> products = productRepository.findViewsByEventId(eventId);
+        return request.checkNotModified(ETags.ofAll(products, ETags::of)) ? null : products;
     }
 
-    @GetMapping(path = "/products")
-    public List<Product> getProductsByEvent(@RequestParam("eventId") int eventId) {
-        return productRepository.findByEventId(eventId);
+    /**
+     * Multi-get, e.g. {@code /products?ids=801,802}; unknown ids are left out of the result. Combined
+     * with {@code eventId} neither mapping matches and the request is answered with 400.
+     */
+    @GetMapping(path = "/products", params = {"ids", "!eventId"})
+    public List<ProductView> getProductsByIds(@RequestParam("ids") Set<Integer> ids, WebRequest request) {
+        List<ProductView> products = productRepository.findViewsByIdIn(checkIds(ids));
+        return request.checkNotModified(ETags.ofAll(products, ETags::of)) ? null : products;
     }
 
     @GetMapping(path = "/products/{id}")
-    public Product getProductById(@PathVariable("id") int productId) {
-        return productRepository.findById(productId)
+    public ProductView getProductById(@PathVariable("id") int productId, WebRequest request) {
+        ProductView product = productRepository.findViewById(productId)
                 .orElseThrow(() -> new NoSuchElementException("Product with id " + productId + " not found"));
+        return request.checkNotModified(ETags.of(product)) ? null : product;
+    }
+
+    @PostMapping(path = "/catalogue/import")
+    public CatalogueImport.Result importCatalogue(@RequestBody CatalogueImport catalogue) {
+        return catalogueImportService.importCatalogue(catalogue);
+    }
+
+    private Set<Integer> checkIds(Set<Integer> ids) {
+        if (ids.isEmpty() || ids.size() > maxIds) {
+            throw new IllegalArgumentException("Between 1 and " + maxIds + " ids are allowed but got " + ids.size());
+        }
+        return ids;
     }
 }
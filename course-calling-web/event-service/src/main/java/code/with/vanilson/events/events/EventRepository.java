@@ -1,10 +1,35 @@
 package code.with.vanilson.events.events;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface EventRepository extends JpaRepository<Event, Integer> {
 
+    String EVENT_VIEW = "select new code.with.vanilson.events.events.EventView("
+            + "e.id, e.name, o.id, o.name, o.description, v.id, v.name, v.street, v.city, v.country, e.startDate, e.endDate, "
+            + "e.version, o.version, v.version) "
+            + "from Event e join e.organizer o join e.venue v ";
+
+    @EntityGraph(attributePaths = {"organizer", "venue"})
     List<Event> findByOrganizerId(int organizerId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(EVENT_VIEW + "where o.id = :organizerId order by e.id")
+    List<EventView> findViewsByOrganizerId(@Param("organizerId") int organizerId);
+
+    @Query(EVENT_VIEW + "where e.id in :ids order by e.id")
+    List<EventView> findViewsByIdIn(@Param("ids") Collection<Integer> ids);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(EVENT_VIEW + "where e.id = :id")
+    Optional<EventView> findViewById(@Param("id") int id);
 }
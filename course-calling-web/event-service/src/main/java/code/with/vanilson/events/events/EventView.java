@@ -0,0 +1,41 @@
+package code.with.vanilson.events.events;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.LocalDate;
+
+/**
+ * EventView
+ * <p>
+ * Read-only projection of an {@link Event} with its organizer and venue, filled by a single
+ * joined query. Serializes to the same JSON as the entity.
+ *
+ * @param version the versions of the event, its organizer and its venue, used for the ETag
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record EventView(
+        int id,
+        String name,
+        OrganizerView organizer,
+        VenueView venue,
+        LocalDate startDate,
+        LocalDate endDate,
+        @JsonIgnore String version) {
+
+    /**
+     * Flat constructor used by the JPQL {@code select new} expressions of {@link EventRepository}.
+     */
+    public EventView(int id, String name,
+                     int organizerId, String organizerName, String organizerDescription,
+                     int venueId, String venueName, String venueStreet, String venueCity, String venueCountry,
+                     LocalDate startDate, LocalDate endDate,
+                     int eventVersion, int organizerVersion, int venueVersion) {
+        this(id, name,
+                new OrganizerView(organizerId, organizerName, organizerDescription),
+                new VenueView(venueId, venueName, venueStreet, venueCity, venueCountry),
+                startDate, endDate,
+                eventVersion + "." + organizerVersion + "." + venueVersion);
+    }
+}
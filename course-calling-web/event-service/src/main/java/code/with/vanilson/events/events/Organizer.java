@@ -4,8 +4,12 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "organizers")
 @Data
 @AllArgsConstructor
@@ -13,7 +17,8 @@ import lombok.NoArgsConstructor;
 public class Organizer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "organizers_id_gen")
+    @SequenceGenerator(name = "organizers_id_gen", sequenceName = "organizers_id_seq", allocationSize = 50)
     private int id;
 
     @Column(nullable = false)
@@ -22,4 +27,6 @@ public class Organizer {
     @Column
     private String description;
 
+    @Version
+    private int version;
 }
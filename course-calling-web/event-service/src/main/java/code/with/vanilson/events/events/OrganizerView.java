@@ -0,0 +1,11 @@
+package code.with.vanilson.events.events;
+
+/**
+ * OrganizerView
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record OrganizerView(int id, String name, String description) {
+}
@@ -4,10 +4,14 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "products")
 @Data
 @AllArgsConstructor
@@ -15,7 +19,8 @@ import java.math.BigDecimal;
 public class Product {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "products_id_gen")
+    @SequenceGenerator(name = "products_id_gen", sequenceName = "products_id_seq", allocationSize = 50)
     private int id;
 
     @Column(nullable = false)
@@ -29,4 +34,7 @@ public class Product {
 
     @Column(nullable = false)
     private BigDecimal price;
+
+    @Version
+    private int version;
 }
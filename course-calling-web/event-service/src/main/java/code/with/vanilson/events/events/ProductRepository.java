@@ -1,10 +1,31 @@
 package code.with.vanilson.events.events;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ProductRepository extends JpaRepository<Product, Integer> {
 
+    String PRODUCT_VIEW = "select new code.with.vanilson.events.events.ProductView("
+            + "p.id, p.eventId, p.name, p.description, p.price, p.version) from Product p ";
+
     List<Product> findByEventId(int eventId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(PRODUCT_VIEW + "where p.eventId = :eventId order by p.id")
+    List<ProductView> findViewsByEventId(@Param("eventId") int eventId);
+
+    @Query(PRODUCT_VIEW + "where p.id in :ids order by p.id")
+    List<ProductView> findViewsByIdIn(@Param("ids") Collection<Integer> ids);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(PRODUCT_VIEW + "where p.id = :id")
+    Optional<ProductView> findViewById(@Param("id") int id);
 }
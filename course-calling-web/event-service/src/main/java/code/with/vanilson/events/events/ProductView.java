@@ -0,0 +1,19 @@
+package code.with.vanilson.events.events;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.math.BigDecimal;
+
+/**
+ * ProductView
+ * <p>
+ * Read-only projection of a {@link Product}.
+ *
+ * @param version the entity version, used for the ETag
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record ProductView(int id, int eventId, String name, String description, BigDecimal price,
+                          @JsonIgnore int version) {
+}
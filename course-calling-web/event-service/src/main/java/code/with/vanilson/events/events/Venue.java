@@ -4,8 +4,12 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "venues")
 @Data
 @AllArgsConstructor
@@ -13,7 +17,8 @@ import lombok.NoArgsConstructor;
 public class Venue {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "venues_id_gen")
+    @SequenceGenerator(name = "venues_id_gen", sequenceName = "venues_id_seq", allocationSize = 50)
     private int id;
 
     @Column(nullable = false)
@@ -27,4 +32,7 @@ public class Venue {
 
     @Column
     private String country;
+
+    @Version
+    private int version;
 }
@@ -0,0 +1,11 @@
+package code.with.vanilson.events.events;
+
+/**
+ * VenueView
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record VenueView(int id, String name, String street, String city, String country) {
+}
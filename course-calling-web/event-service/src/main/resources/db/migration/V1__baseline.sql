@@ -1,3 +1,7 @@
+-- Schema as created by the original schema.sql. Existing databases built from it are baselined at
+-- this version (spring.flyway.baseline-on-migrate) and only receive the later migrations.
+-- Ownership is left to the migrating user instead of a fixed role.
+
 CREATE TABLE public.events (
     id integer NOT NULL,
     end_date date,
@@ -7,8 +11,6 @@ CREATE TABLE public.events (
     venue_id integer NOT NULL
 );
 
-ALTER TABLE public.events OWNER TO pluralsight;
-
 CREATE SEQUENCE public.events_id_seq
     AS integer
     START WITH 1
@@ -17,9 +19,6 @@ CREATE SEQUENCE public.events_id_seq
     NO MAXVALUE
     CACHE 1;
 
-
-ALTER TABLE public.events_id_seq OWNER TO pluralsight;
-
 ALTER SEQUENCE public.events_id_seq OWNED BY public.events.id;
 
 CREATE TABLE public.organizers (
@@ -28,8 +27,6 @@ CREATE TABLE public.organizers (
     name character varying(255) NOT NULL
 );
 
-ALTER TABLE public.organizers OWNER TO pluralsight;
-
 CREATE SEQUENCE public.organizers_id_seq
     AS integer
     START WITH 1
@@ -38,8 +35,6 @@ CREATE SEQUENCE public.organizers_id_seq
     NO MAXVALUE
     CACHE 1;
 
-ALTER TABLE public.organizers_id_seq OWNER TO pluralsight;
-
 ALTER SEQUENCE public.organizers_id_seq OWNED BY public.organizers.id;
 
 CREATE TABLE public.products (
@@ -50,8 +45,6 @@ CREATE TABLE public.products (
     price numeric(38,2) NOT NULL
 );
 
-ALTER TABLE public.products OWNER TO pluralsight;
-
 CREATE SEQUENCE public.products_id_seq
     AS integer
     START WITH 1
@@ -60,8 +53,6 @@ CREATE SEQUENCE public.products_id_seq
     NO MAXVALUE
     CACHE 1;
 
-ALTER TABLE public.products_id_seq OWNER TO pluralsight;
-
 ALTER SEQUENCE public.products_id_seq OWNED BY public.products.id;
 
 CREATE TABLE public.venues (
@@ -72,8 +63,6 @@ CREATE TABLE public.venues (
     street character varying(255)
 );
 
-ALTER TABLE public.venues OWNER TO pluralsight;
-
 CREATE SEQUENCE public.venues_id_seq
     AS integer
     START WITH 1
@@ -82,8 +71,6 @@ CREATE SEQUENCE public.venues_id_seq
     NO MAXVALUE
     CACHE 1;
 
-ALTER TABLE public.venues_id_seq OWNER TO pluralsight;
-
 ALTER SEQUENCE public.venues_id_seq OWNED BY public.venues.id;
 
 ALTER TABLE ONLY public.events ALTER COLUMN id SET DEFAULT nextval('public.events_id_seq'::regclass);
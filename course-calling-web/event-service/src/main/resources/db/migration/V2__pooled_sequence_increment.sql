@@ -0,0 +1,5 @@
+-- The entities allocate ids in blocks of 50 (pooled optimizer), so the sequences must advance by the same step.
+ALTER SEQUENCE public.events_id_seq INCREMENT BY 50;
+ALTER SEQUENCE public.organizers_id_seq INCREMENT BY 50;
+ALTER SEQUENCE public.products_id_seq INCREMENT BY 50;
+ALTER SEQUENCE public.venues_id_seq INCREMENT BY 50;
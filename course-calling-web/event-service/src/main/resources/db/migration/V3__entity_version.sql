@@ -0,0 +1,6 @@
+-- Each row starts at version 0; Hibernate increments it on every update and the ETags are derived from it.
+-- IF NOT EXISTS keeps this safe on databases that already received the columns by hand.
+ALTER TABLE public.events ADD COLUMN IF NOT EXISTS version integer DEFAULT 0 NOT NULL;
+ALTER TABLE public.organizers ADD COLUMN IF NOT EXISTS version integer DEFAULT 0 NOT NULL;
+ALTER TABLE public.products ADD COLUMN IF NOT EXISTS version integer DEFAULT 0 NOT NULL;
+ALTER TABLE public.venues ADD COLUMN IF NOT EXISTS version integer DEFAULT 0 NOT NULL;
@@ -0,0 +1,4 @@
+-- Products are listed per event and events per organizer, both ordered by id. Leading with the
+-- foreign key and ending with id lets PostgreSQL read the rows in order without sorting them.
+CREATE INDEX IF NOT EXISTS products_event_id_idx ON public.products (event_id, id);
+CREATE INDEX IF NOT EXISTS events_organizer_id_idx ON public.events (organizer_id, id);
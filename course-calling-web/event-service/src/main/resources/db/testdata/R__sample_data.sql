@@ -0,0 +1,24 @@
+-- Sample catalogue for the docker and testdata profiles. Re-applied whenever this file changes,
+-- so rows that already exist are skipped.
+INSERT INTO organizers (id, name, description) VALUES (101, 'Globomantics', 'Globomantics Technology Corporation') ON CONFLICT (id) DO NOTHING;
+INSERT INTO organizers (id, name, description) VALUES (102, 'Carved Rock', 'Carved Rock Sports Equipment') ON CONFLICT (id) DO NOTHING;
+
+INSERT INTO venues (id, name, street, city, country) VALUES (201, 'Globomatics Main Office', 'Test Street 325', 'New York', 'USA') ON CONFLICT (id) DO NOTHING;
+INSERT INTO venues (id, name, street, city, country) VALUES (202, 'Sea View Hotel', 'Beach Boulevard 863', 'Los Angeles', 'USA') ON CONFLICT (id) DO NOTHING;
+
+INSERT INTO events (id, name, organizer_id, venue_id, start_date, end_date) VALUES (501, 'Globomantics Tech Conference', 101, 201, '2023-10-02', '2023-10-04') ON CONFLICT (id) DO NOTHING;
+INSERT INTO events (id, name, organizer_id, venue_id, start_date, end_date) VALUES (502, 'Globomantics Developer Day', 101, 201, '2024-01-10', '2024-01-10') ON CONFLICT (id) DO NOTHING;
+INSERT INTO events (id, name, organizer_id, venue_id, start_date, end_date) VALUES (503, 'Carved Rock New Products Day', 102, 202, '2024-02-29', '2024-02-29') ON CONFLICT (id) DO NOTHING;
+
+INSERT INTO products (id, event_id, name, description, price) VALUES (801, 501, 'Standard', 'Standard Conference Ticket', 499.00) ON CONFLICT (id) DO NOTHING;
+INSERT INTO products (id, event_id, name, description, price) VALUES (802, 501, 'Premium', 'Premium Conference Ticket', 649.00) ON CONFLICT (id) DO NOTHING;
+INSERT INTO products (id, event_id, name, description, price) VALUES (803, 502, 'Standard', 'Developer Day Ticket', 195.50) ON CONFLICT (id) DO NOTHING;
+INSERT INTO products (id, event_id, name, description, price) VALUES (804, 503, 'Regular', 'Regular Entrance', 35.00) ON CONFLICT (id) DO NOTHING;
+INSERT INTO products (id, event_id, name, description, price) VALUES (805, 503, 'VIP', 'VIP Bonus Entrance', 65.00) ON CONFLICT (id) DO NOTHING;
+
+-- The rows above use fixed ids, so move every sequence past them; otherwise the pooled generators
+-- would hand out the same ids once they get there. Sequences that are already further are kept.
+SELECT setval('public.organizers_id_seq', greatest((SELECT max(id) FROM public.organizers), (SELECT last_value FROM public.organizers_id_seq)));
+SELECT setval('public.venues_id_seq', greatest((SELECT max(id) FROM public.venues), (SELECT last_value FROM public.venues_id_seq)));
+SELECT setval('public.events_id_seq', greatest((SELECT max(id) FROM public.events), (SELECT last_value FROM public.events_id_seq)));
+SELECT setval('public.products_id_seq', greatest((SELECT max(id) FROM public.products), (SELECT last_value FROM public.products_id_seq)));
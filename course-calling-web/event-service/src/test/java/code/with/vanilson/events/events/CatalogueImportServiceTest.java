@@ -0,0 +1,63 @@
+package code.with.vanilson.events.events;
+
+import code.with.vanilson.events.events.CatalogueImport.EventImport;
+import code.with.vanilson.events.events.CatalogueImport.OrganizerImport;
+import code.with.vanilson.events.events.CatalogueImport.ProductImport;
+import code.with.vanilson.events.events.CatalogueImport.VenueImport;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:catalogue-import;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.sql.init.mode=never",
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class CatalogueImportServiceTest {
+
+    @Autowired
+    private CatalogueImportService service;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void importsCatalogueInJdbcBatches() {
+        VenueImport venue = new VenueImport("Sea View Hotel", "Beach Boulevard 863", "Los Angeles", "USA");
+        List<OrganizerImport> organizers = IntStream.range(0, 10)
+                .mapToObj(o -> new OrganizerImport("Organizer " + o, null, IntStream.range(0, 10)
+                        .mapToObj(e -> new EventImport("Event " + o + "-" + e, venue,
+                                LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 2),
+                                IntStream.range(0, 10)
+                                        .mapToObj(p -> new ProductImport("Ticket " + p, null, BigDecimal.valueOf(25 + p)))
+                                        .toList()))
+                        .toList()))
+                .toList();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        CatalogueImport.Result result = service.importCatalogue(new CatalogueImport(organizers));
+        long statements = statistics.getPrepareStatementCount();
+
+        assertEquals(new CatalogueImport.Result(10, 1, 100, 1000, result.elapsedMillis()), result);
+        assertTrue(statements < 1111 / 5, "expected batched inserts but prepared " + statements + " statements");
+        assertEquals(1000, productRepository.count());
+        assertEquals(100, eventRepository.count());
+    }
+}
@@ -0,0 +1,80 @@
+package code.with.vanilson.events.events;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:etag;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.sql.init.mode=never",
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureMockMvc
+class EventControllerETagTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private OrganizerRepository organizerRepository;
+    @Autowired
+    private VenueRepository venueRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void clearCaches() {
+        // the cache manager is shared by every test context of this JVM
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    @Test
+    void answersMatchingIfNoneMatchWithNotModified() throws Exception {
+        Organizer organizer = organizerRepository.save(new Organizer(0, "Carved Rock", null, 0));
+        Venue venue = venueRepository.save(new Venue(0, "Sea View Hotel", null, "Los Angeles", "USA", 0));
+        Event event = eventRepository.save(new Event(0, "New Products Day", organizer, venue,
+                LocalDate.of(2026, 2, 28), LocalDate.of(2026, 2, 28), 0));
+        Product product = productRepository.save(new Product(0, event.getId(), "VIP", null, BigDecimal.valueOf(65), 0));
+
+        for (String uri : new String[]{"/events/" + event.getId(), "/products/" + product.getId(),
+                "/events?organizerId=" + organizer.getId(), "/products?eventId=" + event.getId()}) {
+            String etag = mockMvc.perform(get(uri))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(get(uri).header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+        }
+
+        String before = mockMvc.perform(get("/events/" + event.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        Venue moved = venueRepository.findById(venue.getId()).orElseThrow();
+        moved.setCity("San Diego");
+        venueRepository.save(moved);
+
+        String after = mockMvc.perform(get("/events/" + event.getId()).header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(before, after);
+    }
+}
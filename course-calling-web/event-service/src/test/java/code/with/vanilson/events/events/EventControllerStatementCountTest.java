@@ -0,0 +1,140 @@
+package code.with.vanilson.events.events;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Every read endpoint must issue the same number of SQL statements however many rows it returns.
+ * The second-level cache stays on, but is cleared before each test so the first read reaches the database.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:statement-count;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.sql.init.mode=never",
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureMockMvc
+class EventControllerStatementCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private OrganizerRepository organizerRepository;
+    @Autowired
+    private VenueRepository venueRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAll();
+        eventRepository.deleteAll();
+        venueRepository.deleteAll();
+        organizerRepository.deleteAll();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void listingEventsDoesNotLoadOrganizersAndVenuesOneByOne() throws Exception {
+        int small = seedOrganizerWithEvents(1);
+        int large = seedOrganizerWithEvents(50);
+
+        long smallCount = statementsFor("/events?organizerId=" + small, 1);
+        long largeCount = statementsFor("/events?organizerId=" + large, 50);
+
+        assertEquals(1, smallCount);
+        assertEquals(smallCount, largeCount);
+    }
+
+    @Test
+    void eventAndProductsAreReadWithOneStatementEach() throws Exception {
+        int organizerId = seedOrganizerWithEvents(1);
+        Event event = eventRepository.findByOrganizerId(organizerId).get(0);
+        for (int i = 0; i < 20; i++) {
+            productRepository.save(new Product(0, event.getId(), "Ticket " + i, null, BigDecimal.valueOf(10 + i), 0));
+        }
+
+        statistics.clear();
+        mockMvc.perform(get("/events/" + event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.organizer.name").value("Organizer 1"))
+                .andExpect(jsonPath("$.venue.city").value("City 0"));
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        assertEquals(1, statementsFor("/products?eventId=" + event.getId(), 20));
+    }
+
+    @Test
+    void multiGetReadsAllRequestedIdsWithOneStatement() throws Exception {
+        int organizerId = seedOrganizerWithEvents(30);
+        List<Event> events = eventRepository.findByOrganizerId(organizerId);
+        String eventIds = events.stream().map(e -> String.valueOf(e.getId())).collect(Collectors.joining(","));
+        List<String> productIds = new ArrayList<>();
+        for (Event event : events) {
+            productIds.add(String.valueOf(productRepository.save(
+                    new Product(0, event.getId(), "General", null, BigDecimal.TEN, 0)).getId()));
+        }
+
+        assertEquals(1, statementsFor("/events?ids=" + eventIds, 30));
+        assertEquals(1, statementsFor("/products?ids=" + String.join(",", productIds) + ",-1", 30));
+    }
+
+    @Test
+    void multiGetRejectsTooManyIds() throws Exception {
+        String ids = IntStream.rangeClosed(1, 101).mapToObj(String::valueOf).collect(Collectors.joining(","));
+
+        mockMvc.perform(get("/products?ids=" + ids)).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/events?ids=")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void multiGetCannotBeCombinedWithAFilter() throws Exception {
+        mockMvc.perform(get("/events?ids=1,2&organizerId=1")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/products?ids=1,2&eventId=1")).andExpect(status().isBadRequest());
+    }
+
+    private long statementsFor(String uri, int expectedSize) throws Exception {
+        statistics.clear();
+        mockMvc.perform(get(uri))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(expectedSize));
+        return statistics.getPrepareStatementCount();
+    }
+
+    private int seedOrganizerWithEvents(int events) {
+        Organizer organizer = organizerRepository.save(new Organizer(0, "Organizer " + events, "Seeded", 0));
+        for (int i = 0; i < events; i++) {
+            Venue venue = venueRepository.save(new Venue(0, "Venue " + i, "Street " + i, "City " + i, "Country", 0));
+            eventRepository.save(new Event(0, "Event " + i, organizer, venue,
+                    LocalDate.of(2026, 1, 1).plusDays(i), LocalDate.of(2026, 1, 2).plusDays(i), 0));
+        }
+        return organizer.getId();
+    }
+}
@@ -0,0 +1,94 @@
+package code.with.vanilson.events.events;
+
+import code.with.vanilson.events.events.CatalogueImport.EventImport;
+import code.with.vanilson.events.events.CatalogueImport.OrganizerImport;
+import code.with.vanilson.events.events.CatalogueImport.ProductImport;
+import code.with.vanilson.events.events.CatalogueImport.VenueImport;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Boots the whole application on an embedded PostgreSQL with Flyway enabled, the way the docker and
+ * testdata profiles run it: the migrations and the sample data are applied at startup and Hibernate
+ * validates the entities against the migrated schema.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.flyway.locations=classpath:db/migration,classpath:db/testdata"
+})
+@AutoConfigureMockMvc
+class FlywayMigrationTest {
+
+    private static final EmbeddedPostgres postgres = start();
+
+    @DynamicPropertySource
+    static void dataSource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private CatalogueImportService catalogueImportService;
+    @Autowired
+    private ProductRepository productRepository;
+
+    @AfterAll
+    static void stop() throws IOException {
+        postgres.close();
+    }
+
+    @Test
+    void servesTheSampleDataOfTheMigratedSchema() throws Exception {
+        mockMvc.perform(get("/events/501"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Globomantics Tech Conference"))
+                .andExpect(jsonPath("$.organizer.name").value("Globomantics"));
+        mockMvc.perform(get("/products?eventId=501"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    void importedIdsDoNotCollideWithTheSampleData() {
+        long before = productRepository.count();
+        List<ProductImport> products = IntStream.range(0, 900)
+                .mapToObj(p -> new ProductImport("Ticket " + p, null, BigDecimal.valueOf(25)))
+                .toList();
+        CatalogueImport catalogue = new CatalogueImport(List.of(new OrganizerImport("Organizer", null, List.of(
+                new EventImport("Event", new VenueImport("Venue", null, "Porto", "Portugal"),
+                        LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 2), products)))));
+
+        catalogueImportService.importCatalogue(catalogue);
+
+        assertEquals(before + 900, productRepository.count());
+    }
+
+    private static EmbeddedPostgres start() {
+        try {
+            return EmbeddedPostgres.start();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package code.with.vanilson.events.events;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reference-data-cache;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.sql.init.mode=never",
+        "spring.flyway.enabled=false"
+})
+@AutoConfigureMockMvc
+class ReferenceDataCacheTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private OrganizerRepository organizerRepository;
+    @Autowired
+    private VenueRepository venueRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+    private Event event;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Organizer organizer = organizerRepository.save(new Organizer(0, "Globomantics", null, 0));
+        Venue venue = venueRepository.save(new Venue(0, "Sea View Hotel", null, "Los Angeles", "USA", 0));
+        event = eventRepository.save(new Event(0, "Developer Day", organizer, venue,
+                LocalDate.of(2026, 1, 10), LocalDate.of(2026, 1, 10), 0));
+        product = productRepository.save(new Product(0, event.getId(), "Standard", null, BigDecimal.valueOf(195.5), 0));
+    }
+
+    @Test
+    void repeatedReadsAreServedFromTheCache() throws Exception {
+        mockMvc.perform(get("/events/" + event.getId())).andExpect(status().isOk());
+        mockMvc.perform(get("/products/" + product.getId())).andExpect(status().isOk());
+
+        statistics.clear();
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(get("/events/" + event.getId()))
+                    .andExpect(jsonPath("$.name").value("Developer Day"));
+            mockMvc.perform(get("/products/" + product.getId()))
+                    .andExpect(jsonPath("$.name").value("Standard"));
+        }
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(10, statistics.getQueryCacheHitCount());
+        assertTrue(meterRegistry.get("events.cache.hit.ratio").tag("region", "query").gauge().value() > 0);
+    }
+
+    @Test
+    void writesInvalidateCachedResults() throws Exception {
+        mockMvc.perform(get("/events/" + event.getId()))
+                .andExpect(jsonPath("$.name").value("Developer Day"));
+
+        Event renamed = eventRepository.findById(event.getId()).orElseThrow();
+        renamed.setName("Developer Night");
+        eventRepository.save(renamed);
+
+        mockMvc.perform(get("/events/" + event.getId()))
+                .andExpect(jsonPath("$.name").value("Developer Night"));
+    }
+}
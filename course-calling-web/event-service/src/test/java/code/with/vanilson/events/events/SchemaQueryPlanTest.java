@@ -0,0 +1,88 @@
+package code.with.vanilson.events.events;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Migrates an embedded PostgreSQL with the Flyway scripts and explains the SQL the repositories send.
+ * Sequential scans are disabled for the session, so a plan that still contains one means the
+ * query has no usable index.
+ */
+class SchemaQueryPlanTest {
+
+    private static EmbeddedPostgres postgres;
+
+    @BeforeAll
+    static void migrate() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        Flyway.configure()
+                .dataSource(postgres.getPostgresDatabase())
+                .locations("classpath:db/migration", "classpath:db/testdata")
+                .load()
+                .migrate();
+    }
+
+    @AfterAll
+    static void stop() throws IOException {
+        postgres.close();
+    }
+
+    @Test
+    void productsOfAnEventAreReadThroughAnIndex() throws SQLException {
+        List<String> plan = explain("select p.id, p.event_id, p.name, p.description, p.price, p.version "
+                + "from products p where p.event_id = 501 order by p.id");
+
+        assertIndexScan(plan, "products_event_id_idx");
+    }
+
+    @Test
+    void eventsOfAnOrganizerAreReadThroughAnIndex() throws SQLException {
+        List<String> plan = explain("select e.id, e.name, o.id, o.name, o.description, v.id, v.name, v.street, "
+                + "v.city, v.country, e.start_date, e.end_date, e.version, o.version, v.version "
+                + "from events e join organizers o on o.id = e.organizer_id join venues v on v.id = e.venue_id "
+                + "where o.id = 101 order by e.id");
+
+        assertIndexScan(plan, "events_organizer_id_idx");
+    }
+
+    @Test
+    void multiGetsAreReadThroughThePrimaryKeys() throws SQLException {
+        assertIndexScan(explain("select p.id from products p where p.id in (801, 802, 805) order by p.id"),
+                "products_pkey");
+        assertIndexScan(explain("select e.id from events e where e.id in (501, 503) order by e.id"),
+                "events_pkey");
+    }
+
+    private static void assertIndexScan(List<String> plan, String index) {
+        assertFalse(plan.stream().anyMatch(line -> line.contains("Seq Scan")), () -> String.join("\n", plan));
+        assertTrue(plan.stream().anyMatch(line -> line.contains(index)), () -> String.join("\n", plan));
+    }
+
+    private static List<String> explain(String sql) throws SQLException {
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("set enable_seqscan = off");
+            List<String> plan = new ArrayList<>();
+            try (ResultSet rows = statement.executeQuery("explain " + sql)) {
+                while (rows.next()) {
+                    plan.add(rows.getString(1));
+                }
+            }
+            return plan;
+        }
+    }
+}
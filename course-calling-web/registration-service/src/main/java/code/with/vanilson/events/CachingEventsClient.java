@@ -0,0 +1,111 @@
+package code.with.vanilson.events;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * CachingEventsClient
+ * <p>
+ * Products and events almost never change, so registrations read them through a short-lived
+ * cache instead of calling the event-service twice per request. The blocking and the reactive
+ * methods share the same cache; a cancelled subscriber does not cancel a load other callers wait for.
+ * <p>
+ * With a non-zero batch window, cache misses are not fetched one by one: misses arriving within the
+ * window are sent to the event-service as one multi-get. The multi-get methods themselves are not cached.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class CachingEventsClient implements EventsClient, AutoCloseable {
+
+    private final EventsClient delegate;
+    private final SingleFlightCache<Integer, Product> products;
+    private final SingleFlightCache<Integer, Event> events;
+    private final Function<Integer, CompletableFuture<Product>> productLoader;
+    private final Function<Integer, CompletableFuture<Event>> eventLoader;
+    private final MicroBatcher<Integer, Product> productBatcher;
+    private final MicroBatcher<Integer, Event> eventBatcher;
+
+    public CachingEventsClient(EventsClient delegate, Duration ttl, Duration batchWindow, int maxBatchSize,
+                               MeterRegistry registry) {
+        this.delegate = delegate;
+        this.products = new SingleFlightCache<>("products", ttl, registry);
+        this.events = new SingleFlightCache<>("events", ttl, registry);
+        if (batchWindow.isZero()) {
+            this.productBatcher = null;
+            this.eventBatcher = null;
+            this.productLoader = id -> delegate.getProductByIdAsync(id).toFuture();
+            this.eventLoader = id -> delegate.getEventByIdAsync(id).toFuture();
+        } else {
+            this.productBatcher = new MicroBatcher<>("products", batchWindow, maxBatchSize,
+                    ids -> delegate.getProductsByIdsAsync(ids).map(found -> byId(found, Product::id)).toFuture(),
+                    registry);
+            this.eventBatcher = new MicroBatcher<>("events", batchWindow, maxBatchSize,
+                    ids -> delegate.getEventsByIdsAsync(ids).map(found -> byId(found, Event::id)).toFuture(),
+                    registry);
+            this.productLoader = productBatcher::load;
+            this.eventLoader = eventBatcher::load;
+        }
+    }
+
+    private static <V> Map<Integer, V> byId(List<V> values, Function<V, Integer> id) {
+        return values.stream().collect(Collectors.toMap(id, Function.identity()));
+    }
+
+    @Override
+    public Product getProductById(int productId) {
+        return products.get(productId, id -> productLoader.apply(id).join());
+    }
+
+    @Override
+    public Event getEventById(int eventId) {
+        return events.get(eventId, id -> eventLoader.apply(id).join());
+    }
+
+    @Override
+    public Mono<Product> getProductByIdAsync(int productId) {
+        return Mono.fromFuture(() -> products.getAsync(productId, productLoader), true);
+    }
+
+    @Override
+    public Mono<Event> getEventByIdAsync(int eventId) {
+        return Mono.fromFuture(() -> events.getAsync(eventId, eventLoader), true);
+    }
+
+    @Override
+    public List<Product> getProductsByIds(Collection<Integer> productIds) {
+        return delegate.getProductsByIds(productIds);
+    }
+
+    @Override
+    public List<Event> getEventsByIds(Collection<Integer> eventIds) {
+        return delegate.getEventsByIds(eventIds);
+    }
+
+    @Override
+    public Mono<List<Product>> getProductsByIdsAsync(Collection<Integer> productIds) {
+        return delegate.getProductsByIdsAsync(productIds);
+    }
+
+    @Override
+    public Mono<List<Event>> getEventsByIdsAsync(Collection<Integer> eventIds) {
+        return delegate.getEventsByIdsAsync(eventIds);
+    }
+
+    @Override
+    public void close() {
+        if (productBatcher != null) {
+            productBatcher.close();
+            eventBatcher.close();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package code.with.vanilson.events;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ConditionalRequestFilter
+ * <p>
+ * Remembers the ETag and body of successful GET responses and revalidates them with
+ * {@code If-None-Match}. A {@code 304 Not Modified} is turned back into a {@code 200} with the
+ * remembered body, so callers of {@link EventsClient} never see the difference. At most
+ * {@code maxEntries} responses are kept, least recently used first out. Multi-gets
+ * ({@code ?ids=...}) are passed through untouched: every batch window asks for a different set of
+ * ids, so their bodies would rarely be revalidated and would only push single-id entries out. Publishes
+ * {@code events.client.conditional} counters tagged {@code result=not-modified|modified}.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class ConditionalRequestFilter implements ExchangeFilterFunction {
+
+    private record Validated(String etag, MediaType contentType, String body) {
+    }
+
+    private final Map<String, Validated> responses;
+    private final Counter notModified;
+    private final Counter modified;
+
+    public ConditionalRequestFilter(int maxEntries, MeterRegistry registry) {
+        this.responses = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Validated> eldest) {
+                return size() > maxEntries;
+            }
+        });
+        this.notModified = Counter.builder("events.client.conditional").tag("result", "not-modified").register(registry);
+        this.modified = Counter.builder("events.client.conditional").tag("result", "modified").register(registry);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (!HttpMethod.GET.equals(request.method()) || isMultiGet(request)) {
+            return next.exchange(request);
+        }
+        String key = request.url().toString();
+        Validated cached = responses.get(key);
+        ClientRequest conditional = cached == null
+                ? request
+                : ClientRequest.from(request).headers(headers -> headers.setIfNoneMatch(cached.etag())).build();
+
+        return next.exchange(conditional).flatMap(response -> {
+            if (cached != null && response.statusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+                notModified.increment();
+                return Mono.just(response.mutate()
+                        .statusCode(HttpStatus.OK)
+                        .headers(headers -> headers.setContentType(cached.contentType()))
+                        .body(cached.body())
+                        .build());
+            }
+            String etag = response.headers().asHttpHeaders().getETag();
+            if (!response.statusCode().is2xxSuccessful() || etag == null) {
+                return Mono.just(response);
+            }
+            if (cached != null) {
+                modified.increment();
+            }
+            MediaType contentType = response.headers().contentType().orElse(MediaType.APPLICATION_JSON);
+            return response.bodyToMono(String.class)
+                    .defaultIfEmpty("")
+                    .map(body -> {
+                        responses.put(key, new Validated(etag, contentType, body));
+                        return response.mutate().body(body).build();
+                    });
+        });
+    }
+
+    private static boolean isMultiGet(ClientRequest request) {
+        return UriComponentsBuilder.fromUri(request.url()).build().getQueryParams().containsKey("ids");
+    }
+
+    int size() {
+        return responses.size();
+    }
+}
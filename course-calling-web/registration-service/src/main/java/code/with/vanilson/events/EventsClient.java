@@ -1,7 +1,12 @@
 package code.with.vanilson.events;
 
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.service.annotation.GetExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface EventsClient {
 
@@ -10,4 +15,25 @@ public interface EventsClient {
 
     @GetExchange("/events/{id}")
     Event getEventById(@PathVariable("id") int eventId);
+
+    @GetExchange("/products/{id}")
+    Mono<Product> getProductByIdAsync(@PathVariable("id") int productId);
+
+    @GetExchange("/events/{id}")
+    Mono<Event> getEventByIdAsync(@PathVariable("id") int eventId);
+
+    /**
+     * Multi-get; ids the event-service does not know are left out of the result.
+     */
+    @GetExchange("/products")
+    List<Product> getProductsByIds(@RequestParam("ids") Collection<Integer> productIds);
+
+    @GetExchange("/events")
+    List<Event> getEventsByIds(@RequestParam("ids") Collection<Integer> eventIds);
+
+    @GetExchange("/products")
+    Mono<List<Product>> getProductsByIdsAsync(@RequestParam("ids") Collection<Integer> productIds);
+
+    @GetExchange("/events")
+    Mono<List<Event>> getEventsByIdsAsync(@RequestParam("ids") Collection<Integer> eventIds);
 }
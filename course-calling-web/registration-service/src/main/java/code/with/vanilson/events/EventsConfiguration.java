@@ -1,5 +1,6 @@
 package code.with.vanilson.events;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -7,18 +8,30 @@ import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.support.WebClientAdapter;
 import org.springframework.web.service.invoker.HttpServiceProxyFactory;
 
+import java.time.Duration;
+
 @Configuration
 public class EventsConfiguration {
 
     @Bean
-    public WebClient webClient(@Value("${tickets.events.url}") String baseUrl) {
-        return WebClient.builder().baseUrl(baseUrl).build();
+    public WebClient webClient(@Value("${tickets.events.url}") String baseUrl,
+                               @Value("${tickets.events.conditional-cache-size:10000}") int conditionalCacheSize,
+                               MeterRegistry meterRegistry) {
+        return WebClient.builder()
+                .baseUrl(baseUrl)
+                .filter(new ConditionalRequestFilter(conditionalCacheSize, meterRegistry))
+                .build();
     }
 
     @Bean
-    public EventsClient eventsClient(WebClient webClient) {
-        return HttpServiceProxyFactory.builderFor(WebClientAdapter.create(webClient))
+    public EventsClient eventsClient(WebClient webClient,
+                                     @Value("${tickets.events.cache-ttl:PT5M}") Duration cacheTtl,
+                                     @Value("${tickets.events.batch-window:PT0.005S}") Duration batchWindow,
+                                     @Value("${tickets.events.max-batch-size:100}") int maxBatchSize,
+                                     MeterRegistry meterRegistry) {
+        EventsClient remote = HttpServiceProxyFactory.builderFor(WebClientAdapter.create(webClient))
                 .build()
                 .createClient(EventsClient.class);
+        return new CachingEventsClient(remote, cacheTtl, batchWindow, maxBatchSize, meterRegistry);
     }
 }
@@ -0,0 +1,130 @@
+package code.with.vanilson.events;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * MicroBatcher
+ * <p>
+ * Collects single-key loads for a short window and sends them to the loader as one batch.
+ * A batch is dispatched when the window set by its first key elapses or when it reaches
+ * {@code maxBatchSize} keys, whichever comes first. Keys the loader leaves out of its result fail
+ * with {@link NoSuchElementException}. The loader gets the keys sorted, so the same keys always make
+ * the same request (and the same cache key for URL-keyed caches). Batch sizes are published as an {@code events.client.batch.size}
+ * distribution summary tagged with the batcher name.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class MicroBatcher<K extends Comparable<? super K>, V> implements AutoCloseable {
+
+    private final String name;
+    private final Function<Set<K>, CompletableFuture<Map<K, V>>> loader;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService scheduler;
+    private final DistributionSummary batchSizes;
+
+    private Map<K, CompletableFuture<V>> pending = new HashMap<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    public MicroBatcher(String name, Duration window, int maxBatchSize,
+                        Function<Set<K>, CompletableFuture<Map<K, V>>> loader, MeterRegistry registry) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1 but was " + maxBatchSize);
+        }
+        this.name = name;
+        this.loader = loader;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "events-client-" + name + "-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.batchSizes = DistributionSummary.builder("events.client.batch.size")
+                .tag("batcher", name)
+                .register(registry);
+    }
+
+    public CompletableFuture<V> load(K key) {
+        CompletableFuture<V> result;
+        Map<K, CompletableFuture<V>> full = null;
+        synchronized (this) {
+            result = pending.computeIfAbsent(key, k -> new CompletableFuture<>());
+            if (pending.size() >= maxBatchSize) {
+                full = drain();
+            } else if (scheduledFlush == null) {
+                scheduledFlush = scheduler.schedule(this::flush, windowNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        if (full != null) {
+            dispatch(full);
+        }
+        return result;
+    }
+
+    private void flush() {
+        Map<K, CompletableFuture<V>> batch;
+        synchronized (this) {
+            batch = drain();
+        }
+        if (!batch.isEmpty()) {
+            dispatch(batch);
+        }
+    }
+
+    private Map<K, CompletableFuture<V>> drain() {
+        Map<K, CompletableFuture<V>> batch = pending;
+        pending = new HashMap<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void dispatch(Map<K, CompletableFuture<V>> batch) {
+        batchSizes.record(batch.size());
+        CompletableFuture<Map<K, V>> loaded;
+        try {
+            loaded = loader.apply(Collections.unmodifiableSortedSet(new TreeSet<>(batch.keySet())));
+        } catch (RuntimeException e) {
+            loaded = CompletableFuture.failedFuture(e);
+        }
+        loaded.whenComplete((values, failure) -> batch.forEach((key, future) -> {
+            if (failure != null) {
+                future.completeExceptionally(failure instanceof CompletionException ? failure.getCause() : failure);
+            } else if (values.containsKey(key)) {
+                future.complete(values.get(key));
+            } else {
+                future.completeExceptionally(new NoSuchElementException(name + " " + key + " not found"));
+            }
+        }));
+    }
+
+    /**
+     * Dispatches whatever is still pending and stops the window timer.
+     */
+    @Override
+    public void close() {
+        flush();
+        scheduler.shutdown();
+    }
+}
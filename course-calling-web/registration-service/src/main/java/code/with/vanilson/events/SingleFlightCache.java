@@ -0,0 +1,131 @@
+package code.with.vanilson.events;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * SingleFlightCache
+ * <p>
+ * Caches values for a fixed time to live, counted from the moment their load completes. Concurrent
+ * misses for the same key share one load: the first caller runs the loader, the others wait for its
+ * result. Failed loads are not cached. Expired entries are swept out on a miss, at most once per time
+ * to live, so keys that are never requested again do not stay in memory.
+ * Metrics are published as {@code events.client.cache} counters tagged with the cache name and
+ * {@code result} ({@code hit}, {@code miss}, {@code coalesced}) and an {@code events.client.cache.size} gauge.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class SingleFlightCache<K, V> {
+
+    private record Entry<V>(CompletableFuture<V> value, long expiresAt) {
+        // a load still in flight never expires; its time to live starts once it completes
+        boolean expired(long now) {
+            return value.isDone() && now - expiresAt >= 0;
+        }
+    }
+
+    private final ConcurrentMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter coalesced;
+    private final AtomicLong nextSweepAt;
+
+    public SingleFlightCache(String name, Duration ttl, MeterRegistry registry) {
+        this(name, ttl, registry, System::nanoTime);
+    }
+
+    SingleFlightCache(String name, Duration ttl, MeterRegistry registry, LongSupplier nanoClock) {
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+        this.nextSweepAt = new AtomicLong(nanoClock.getAsLong() + ttlNanos);
+        this.hits = counter(registry, name, "hit");
+        this.misses = counter(registry, name, "miss");
+        this.coalesced = counter(registry, name, "coalesced");
+        registry.gaugeMapSize("events.client.cache.size", Tags.of("cache", name), entries);
+    }
+
+    private static Counter counter(MeterRegistry registry, String name, String result) {
+        return Counter.builder("events.client.cache")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    public V get(K key, Function<K, V> loader) {
+        return await(getAsync(key, k -> CompletableFuture.completedFuture(loader.apply(k))));
+    }
+
+    /**
+     * Non-blocking variant of {@link #get(Object, Function)}: the returned future completes
+     * when the value is loaded, or immediately on a hit.
+     */
+    public CompletableFuture<V> getAsync(K key, Function<K, CompletableFuture<V>> loader) {
+        long now = nanoClock.getAsLong();
+        CompletableFuture<V> load = new CompletableFuture<>();
+        Entry<V> entry = entries.compute(key, (k, current) ->
+                current != null && !current.expired(now) ? current : new Entry<>(load, now + ttlNanos));
+
+        if (entry.value() != load) {
+            (entry.value().isDone() ? hits : coalesced).increment();
+            return entry.value();
+        }
+        misses.increment();
+        sweepExpired(now);
+        CompletableFuture<V> loaded;
+        try {
+            loaded = loader.apply(key);
+        } catch (RuntimeException e) {
+            loaded = CompletableFuture.failedFuture(e);
+        }
+        loaded.whenComplete((value, failure) -> {
+            if (failure != null) {
+                entries.remove(key, entry);
+                load.completeExceptionally(failure instanceof CompletionException ? failure.getCause() : failure);
+            } else {
+                entries.replace(key, entry, new Entry<>(load, nanoClock.getAsLong() + ttlNanos));
+                load.complete(value);
+            }
+        });
+        return load;
+    }
+
+    private void sweepExpired(long now) {
+        long due = nextSweepAt.get();
+        if (now - due >= 0 && nextSweepAt.compareAndSet(due, now + ttlNanos)) {
+            entries.values().removeIf(entry -> entry.expired(now));
+        }
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> value) {
+        try {
+            return value.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
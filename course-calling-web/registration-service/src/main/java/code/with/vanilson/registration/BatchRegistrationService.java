@@ -0,0 +1,137 @@
+package code.with.vanilson.registration;
+
+import code.with.vanilson.events.Event;
+import code.with.vanilson.events.EventsClient;
+import com.mongodb.bulk.BulkWriteError;
+import org.bson.types.ObjectId;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * BatchRegistrationService
+ * <p>
+ * Registers a group of attendees: every distinct product and event is looked up once, and the
+ * registrations are written with unordered bulk inserts of up to {@value #BULK_SIZE} documents.
+ * Results are reported per attendee, in submission order: a rejected attendee is reported together
+ * with the bulk insert of the attendees around it. A document the database refuses fails on its own,
+ * the rest of its bulk is still stored and reported as registered.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Service
+public class BatchRegistrationService {
+    static final int BULK_SIZE = 1000;
+    private static final int LOOKUP_CONCURRENCY = 8;
+
+    private record Pricing(String eventName, BigDecimal amount, String error) {
+    }
+
+    private final EventsClient eventsClient;
+    private final MongoOperations mongoOperations;
+
+    public BatchRegistrationService(EventsClient eventsClient, MongoOperations mongoOperations) {
+        this.eventsClient = eventsClient;
+        this.mongoOperations = mongoOperations;
+    }
+
+    public void register(List<Registration> registrations, Consumer<RegistrationResult> results) {
+        Map<Integer, Pricing> pricing = lookUp(registrations.stream()
+                .map(Registration::productId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList());
+
+        List<Registration> pending = new ArrayList<>(Math.min(registrations.size(), BULK_SIZE));
+        List<Integer> pendingIndexes = new ArrayList<>(Math.min(registrations.size(), BULK_SIZE));
+        List<RegistrationResult> rejected = new ArrayList<>();
+        for (int i = 0; i < registrations.size(); i++) {
+            Registration registration = registrations.get(i);
+            if (registration.productId() == null || registration.attendeeName() == null || registration.attendeeName().isBlank()) {
+                rejected.add(RegistrationResult.failed(i, "productId and attendeeName are required"));
+                continue;
+            }
+            Pricing price = pricing.get(registration.productId());
+            if (price == null || price.error() != null) {
+                rejected.add(RegistrationResult.failed(i, price == null
+                        ? "Product " + registration.productId() + " not found"
+                        : price.error()));
+                continue;
+            }
+            // the id is assigned here so the stored documents can be reported without reading them back
+            pending.add(new Registration(
+                    new ObjectId().toHexString(), registration.productId(),
+                    price.eventName(), price.amount(),
+                    UUID.randomUUID().toString(), registration.attendeeName()));
+            pendingIndexes.add(i);
+            if (pending.size() == BULK_SIZE) {
+                insert(pending, pendingIndexes, rejected, results);
+            }
+        }
+        insert(pending, pendingIndexes, rejected, results);
+    }
+
+    private void insert(List<Registration> pending, List<Integer> indexes, List<RegistrationResult> rejected,
+                        Consumer<RegistrationResult> results) {
+        List<RegistrationResult> outcomes = new ArrayList<>(pending.size() + rejected.size());
+        outcomes.addAll(rejected);
+        if (!pending.isEmpty()) {
+            Map<Integer, String> errors = new HashMap<>();
+            try {
+                mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, Registration.class)
+                        .insert(pending)
+                        .execute();
+            } catch (BulkOperationException e) {
+                for (BulkWriteError error : e.getErrors()) {
+                    errors.put(error.getIndex(), error.getMessage());
+                }
+            } catch (DataAccessException e) {
+                for (int i = 0; i < pending.size(); i++) {
+                    errors.put(i, e.getMostSpecificCause().getMessage());
+                }
+            }
+            for (int i = 0; i < pending.size(); i++) {
+                String error = errors.get(i);
+                outcomes.add(error == null
+                        ? RegistrationResult.registered(indexes.get(i), pending.get(i))
+                        : RegistrationResult.failed(indexes.get(i), error));
+            }
+        }
+        outcomes.sort(Comparator.comparingInt(RegistrationResult::index));
+        outcomes.forEach(results);
+        pending.clear();
+        indexes.clear();
+        rejected.clear();
+    }
+
+    private Map<Integer, Pricing> lookUp(List<Integer> productIds) {
+        Map<Integer, Mono<Event>> events = new ConcurrentHashMap<>();
+        return Flux.fromIterable(productIds)
+                .flatMap(productId -> eventsClient.getProductByIdAsync(productId)
+                        .flatMap(product -> events
+                                .computeIfAbsent(product.eventId(), id -> eventsClient.getEventByIdAsync(id).cache())
+                                .map(event -> new Pricing(event.name(), product.price(), null)))
+                        .onErrorResume(e -> Mono.just(new Pricing(null, null,
+                                "Product " + productId + " could not be resolved: " + e.getMessage())))
+                        .map(price -> Map.entry(productId, price)), LOOKUP_CONCURRENCY)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .block();
+    }
+}
@@ -0,0 +1,66 @@
+package code.with.vanilson.registration;
+
+import code.with.vanilson.events.EventsClient;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+/**
+ * ReactiveRegistrationController
+ * <p>
+ * Same contract as {@link RegistrationController}, but the event-service calls and the Mongo
+ * writes are composed without blocking, so a request does not hold a servlet thread while it waits.
+ * The service stays on Spring MVC and Tomcat rather than WebFlux: a returned {@link Mono} is
+ * completed through servlet async processing, next to the blocking endpoints of the same app.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@RestController
+@RequestMapping(path = "/reactive/registrations")
+public class ReactiveRegistrationController {
+
+    private final EventsClient eventsClient;
+    private final ReactiveRegistrationRepository registrationRepository;
+
+    public ReactiveRegistrationController(EventsClient eventsClient, ReactiveRegistrationRepository registrationRepository) {
+        this.eventsClient = eventsClient;
+        this.registrationRepository = registrationRepository;
+    }
+
+    @PostMapping
+    public Mono<Registration> create(@RequestBody Registration registration) {
+        return eventsClient.getProductByIdAsync(registration.productId())
+                .flatMap(product -> eventsClient.getEventByIdAsync(product.eventId())
+                        .map(event -> new Registration(
+                                null, registration.productId(),
+                                event.name(), product.price(),
+                                UUID.randomUUID().toString(), registration.attendeeName())))
+                .flatMap(registrationRepository::save);
+    }
+
+    @GetMapping(path = "/{ticketCode}")
+    public Mono<RegistrationSummary> get(@PathVariable("ticketCode") String ticketCode) {
+        return registrationRepository.findSummaryByTicketCode(ticketCode)
+                .switchIfEmpty(Mono.error(() -> new NoSuchElementException("Registration with ticket code " + ticketCode + " not found")));
+    }
+
+    @PutMapping
+    public Mono<Registration> update(@RequestBody Registration registration) {
+        String ticketCode = registration.ticketCode();
+        return registrationRepository.findByTicketCode(ticketCode)
+                .switchIfEmpty(Mono.error(() -> new NoSuchElementException("Registration with ticket code " + ticketCode + " not found")))
+                .flatMap(existing -> registrationRepository.save(new Registration(
+                        existing.id(), existing.productId(),
+                        existing.eventName(), existing.amount(),
+                        ticketCode, registration.attendeeName())));
+    }
+
+    @DeleteMapping(path = "/{ticketCode}")
+    public Mono<Void> delete(@PathVariable("ticketCode") String ticketCode) {
+        return registrationRepository.deleteByTicketCode(ticketCode);
+    }
+}
@@ -0,0 +1,13 @@
+package code.with.vanilson.registration;
+
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveRegistrationRepository extends ReactiveMongoRepository<Registration, String> {
+
+    Mono<Registration> findByTicketCode(String ticketCode);
+
+    Mono<RegistrationSummary> findSummaryByTicketCode(String ticketCode);
+
+    Mono<Void> deleteByTicketCode(String ticketCode);
+}
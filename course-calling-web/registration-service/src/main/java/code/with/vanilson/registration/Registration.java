@@ -1,6 +1,7 @@
 package code.with.vanilson.registration;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.math.BigDecimal;
@@ -11,6 +12,6 @@ public record Registration(
         Integer productId,
         String eventName,
         BigDecimal amount,
-        String ticketCode,
+        @Indexed(name = "ticketCode_unique", unique = true) String ticketCode,
         String attendeeName) {
 }
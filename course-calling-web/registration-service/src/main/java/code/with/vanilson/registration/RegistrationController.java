@@ -4,8 +4,19 @@ package code.with.vanilson.registration;
 import code.with.vanilson.events.Event;
 import code.with.vanilson.events.EventsClient;
 import code.with.vanilson.events.Product;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.UUID;
 
@@ -15,10 +26,21 @@ public class RegistrationController {
 
     private final EventsClient eventsClient;
     private final RegistrationRepository registrationRepository;
+    private final BatchRegistrationService batchRegistrationService;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter resultWriter;
+    private final int maxBatchSize;
 
-    public RegistrationController(EventsClient eventsClient, RegistrationRepository registrationRepository) {
+    public RegistrationController(EventsClient eventsClient, RegistrationRepository registrationRepository,
+                                  BatchRegistrationService batchRegistrationService, ObjectMapper objectMapper,
+                                  @Value("${tickets.registrations.max-batch-size:10000}") int maxBatchSize) {
         this.eventsClient = eventsClient;
         this.registrationRepository = registrationRepository;
+        this.batchRegistrationService = batchRegistrationService;
+        this.objectMapper = objectMapper;
+        this.resultWriter = objectMapper.writerFor(RegistrationResult.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.maxBatchSize = maxBatchSize;
     }
 
     @PostMapping
@@ -36,9 +58,37 @@ public class RegistrationController {
                 ticketCode, registration.attendeeName()));
     }
 
+    /**
+     * Registers a group of attendees. The response is a JSON array with one
+     * {@link RegistrationResult} per attendee, streamed while the batch is written.
+     */
+    @PostMapping(path = "/batch")
+    public ResponseEntity<StreamingResponseBody> createBatch(@RequestBody List<Registration> registrations) {
+        if (registrations.size() > maxBatchSize) {
+            throw new IllegalArgumentException("A batch may contain at most " + maxBatchSize
+                    + " registrations but had " + registrations.size());
+        }
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+                json.writeStartArray();
+                batchRegistrationService.register(registrations, result -> write(json, result));
+                json.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    private void write(JsonGenerator json, RegistrationResult result) {
+        try {
+            resultWriter.writeValue(json, result);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @GetMapping(path = "/{ticketCode}")
-    public Registration get(@PathVariable("ticketCode") String ticketCode) {
-        return registrationRepository.findByTicketCode(ticketCode)
+    public RegistrationSummary get(@PathVariable("ticketCode") String ticketCode) {
+        return registrationRepository.findSummaryByTicketCode(ticketCode)
                 .orElseThrow(() -> new NoSuchElementException("Registration with ticket code " + ticketCode + " not found"));
     }
 
@@ -0,0 +1,25 @@
+package code.with.vanilson.registration;
+
+/**
+ * RegistrationResult
+ * <p>
+ * Outcome of one attendee of a batch registration: either the stored registration or the reason
+ * it was rejected.
+ *
+ * @param index        the position of the attendee in the submitted batch
+ * @param registration the stored registration, {@code null} if it failed
+ * @param error        why the attendee was not registered, {@code null} on success
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record RegistrationResult(int index, Registration registration, String error) {
+
+    public static RegistrationResult registered(int index, Registration registration) {
+        return new RegistrationResult(index, registration, null);
+    }
+
+    public static RegistrationResult failed(int index, String error) {
+        return new RegistrationResult(index, null, error);
+    }
+}
@@ -0,0 +1,21 @@
+package code.with.vanilson.registration;
+
+import java.math.BigDecimal;
+
+/**
+ * RegistrationSummary
+ * <p>
+ * Read projection of a {@link Registration}: lookups by ticket code fetch only these fields and
+ * do not expose the internal document id.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record RegistrationSummary(
+        String ticketCode,
+        Integer productId,
+        String eventName,
+        BigDecimal amount,
+        String attendeeName) {
+}
@@ -0,0 +1,78 @@
+package code.with.vanilson.events;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ConditionalRequestFilterTest {
+    private static final String PRODUCT = "{\"id\":801,\"eventId\":501,\"name\":\"Standard\",\"price\":499.00}";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ConditionalRequestFilter filter = new ConditionalRequestFilter(2, registry);
+    private final List<String> sentValidators = new ArrayList<>();
+
+    private final ExchangeFunction eventService = request -> {
+        String validator = request.headers().getFirst(HttpHeaders.IF_NONE_MATCH);
+        sentValidators.add(validator);
+        if ("\"product-801-0\"".equals(validator)) {
+            return Mono.just(ClientResponse.create(HttpStatus.NOT_MODIFIED)
+                    .header(HttpHeaders.ETAG, validator)
+                    .build());
+        }
+        return Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.ETAG, "\"product-801-0\"")
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(PRODUCT)
+                .build());
+    };
+
+    @Test
+    void replaysRememberedBodyOnNotModified() {
+        assertEquals(PRODUCT, get("/products/801"));
+        assertEquals(PRODUCT, get("/products/801"));
+
+        assertNull(sentValidators.get(0));
+        assertEquals("\"product-801-0\"", sentValidators.get(1));
+        assertEquals(1, registry.get("events.client.conditional").tag("result", "not-modified").counter().count());
+    }
+
+    @Test
+    void keepsAtMostMaxEntries() {
+        get("/products/801");
+        get("/products/802");
+        get("/products/803");
+
+        assertEquals(2, filter.size());
+    }
+
+    @Test
+    void doesNotRememberMultiGets() {
+        get("/products?ids=801,802");
+        get("/products?ids=801,802");
+
+        assertEquals(0, filter.size());
+        assertEquals(Arrays.asList(null, null), sentValidators);
+    }
+
+    private String get(String path) {
+        ClientRequest request = ClientRequest.create(HttpMethod.GET, URI.create("http://events" + path)).build();
+        ClientResponse response = filter.filter(request, eventService).block();
+        assertEquals(HttpStatus.OK, response.statusCode());
+        return response.bodyToMono(String.class).block();
+    }
+}
@@ -0,0 +1,114 @@
+package code.with.vanilson.events;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MicroBatcherTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final List<Set<Integer>> batches = new CopyOnWriteArrayList<>();
+    private MicroBatcher<Integer, String> batcher;
+
+    @AfterEach
+    void close() {
+        batcher.close();
+    }
+
+    @Test
+    void coalescesLoadsWithinTheWindowIntoOneBatch() throws Exception {
+        batcher = batcher(Duration.ofMillis(50), 100, ids -> ids.stream()
+                .collect(Collectors.toMap(Function.identity(), id -> "product-" + id)));
+
+        List<CompletableFuture<String>> callers = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            callers.add(batcher.load(i % 10));
+        }
+
+        for (int i = 0; i < callers.size(); i++) {
+            assertEquals("product-" + i % 10, callers.get(i).get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, batches.size());
+        assertEquals(10, batches.get(0).size());
+        assertEquals(10, registry.get("events.client.batch.size").summary().max());
+    }
+
+    @Test
+    void dispatchesAFullBatchWithoutWaitingForTheWindow() throws Exception {
+        batcher = batcher(Duration.ofMinutes(1), 3, ids -> ids.stream()
+                .collect(Collectors.toMap(Function.identity(), String::valueOf)));
+
+        CompletableFuture<String> first = batcher.load(1);
+        batcher.load(2);
+        batcher.load(3);
+        CompletableFuture<String> fourth = batcher.load(4);
+
+        assertEquals("1", first.get(1, TimeUnit.SECONDS));
+        assertEquals(List.of(Set.of(1, 2, 3)), batches);
+
+        batcher.close();
+        assertEquals("4", fourth.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void passesTheKeysInAscendingOrder() throws Exception {
+        batcher = batcher(Duration.ofMinutes(1), 4, ids -> ids.stream()
+                .collect(Collectors.toMap(Function.identity(), String::valueOf)));
+
+        List<CompletableFuture<String>> callers = new ArrayList<>();
+        for (int id : List.of(42, 7, 19, 3)) {
+            callers.add(batcher.load(id));
+        }
+
+        CompletableFuture.allOf(callers.toArray(CompletableFuture[]::new)).get(1, TimeUnit.SECONDS);
+        assertEquals(List.of(3, 7, 19, 42), new ArrayList<>(batches.get(0)));
+    }
+
+    @Test
+    void failsKeysMissingFromTheResult() {
+        batcher = batcher(Duration.ofMillis(1), 100, ids -> Map.of(1, "product-1"));
+
+        CompletableFuture<String> missing = batcher.load(2);
+
+        assertEquals("product-1", batcher.load(1).join());
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> missing.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(NoSuchElementException.class, failure.getCause());
+    }
+
+    @Test
+    void failsEveryKeyWhenTheBatchFails() {
+        batcher = batcher(Duration.ofMillis(1), 100, ids -> {
+            throw new IllegalStateException("event-service unavailable");
+        });
+
+        for (CompletableFuture<String> caller : List.of(batcher.load(1), batcher.load(2))) {
+            ExecutionException failure = assertThrows(ExecutionException.class, () -> caller.get(1, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, failure.getCause());
+        }
+    }
+
+    private MicroBatcher<Integer, String> batcher(Duration window, int maxBatchSize,
+                                                  Function<Set<Integer>, Map<Integer, String>> loader) {
+        return new MicroBatcher<>("products", window, maxBatchSize, ids -> {
+            batches.add(ids);
+            return CompletableFuture.completedFuture(loader.apply(ids));
+        }, registry);
+    }
+}
@@ -0,0 +1,109 @@
+package code.with.vanilson.events;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SingleFlightCacheTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong();
+    private final SingleFlightCache<Integer, String> cache =
+            new SingleFlightCache<>("products", Duration.ofSeconds(10), registry, clock::get);
+
+    @Test
+    void servesHitsUntilTheEntryExpires() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1, id -> "product-" + loads.incrementAndGet());
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(9));
+        assertEquals("product-1", cache.get(1, id -> "product-" + loads.incrementAndGet()));
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertEquals("product-2", cache.get(1, id -> "product-" + loads.incrementAndGet()));
+
+        assertEquals(1, count("hit"));
+        assertEquals(2, count("miss"));
+    }
+
+    @Test
+    void coalescesConcurrentMisses() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        List<CompletableFuture<String>> callers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            callers.add(CompletableFuture.supplyAsync(() -> cache.get(7, id -> {
+                loads.incrementAndGet();
+                await(release);
+                return "product-7";
+            })));
+        }
+        TimeUnit.MILLISECONDS.sleep(200);
+        release.countDown();
+
+        for (CompletableFuture<String> caller : callers) {
+            assertEquals("product-7", caller.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(7, count("coalesced") + count("hit"));
+    }
+
+    @Test
+    void timeToLiveStartsWhenTheLoadCompletes() {
+        CompletableFuture<String> slowLoad = new CompletableFuture<>();
+        cache.getAsync(1, id -> slowLoad);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(8));
+        slowLoad.complete("product-1");
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(5));
+
+        assertEquals("product-1", cache.get(1, id -> "reloaded"));
+        assertEquals(1, count("hit"));
+    }
+
+    @Test
+    void sweepsExpiredEntriesOfKeysNoLongerRequested() {
+        for (int id = 0; id < 100; id++) {
+            cache.get(id, key -> "product-" + key);
+        }
+        assertEquals(100, cache.size());
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        cache.get(1_000, key -> "product-" + key);
+
+        assertEquals(1, cache.size());
+        assertEquals(1.0, registry.get("events.client.cache.size").gauge().value());
+    }
+
+    @Test
+    void doesNotCacheFailures() {
+        assertThrows(IllegalStateException.class, () -> cache.get(3, id -> {
+            throw new IllegalStateException("event-service unavailable");
+        }));
+
+        assertEquals("product-3", cache.get(3, id -> "product-3"));
+        assertEquals(1, cache.size());
+    }
+
+    private double count(String result) {
+        return registry.get("events.client.cache").tag("result", result).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
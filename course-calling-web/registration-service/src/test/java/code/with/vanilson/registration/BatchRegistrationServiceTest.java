@@ -0,0 +1,126 @@
+package code.with.vanilson.registration;
+
+import code.with.vanilson.events.Event;
+import code.with.vanilson.events.EventsClient;
+import code.with.vanilson.events.Product;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoOperations;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BatchRegistrationServiceTest {
+
+    private final EventsClient eventsClient = mock(EventsClient.class);
+    private final MongoOperations mongoOperations = mock(MongoOperations.class);
+    private final BulkOperations bulk = mock(BulkOperations.class);
+    private final BatchRegistrationService service = new BatchRegistrationService(eventsClient, mongoOperations);
+
+    @BeforeEach
+    void stubBulkOperations() {
+        when(mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, Registration.class)).thenReturn(bulk);
+        when(bulk.insert(anyList())).thenReturn(bulk);
+    }
+
+    @Test
+    void looksUpEachProductAndEventOnceAndInsertsInBulk() {
+        when(eventsClient.getProductByIdAsync(anyInt())).thenAnswer(invocation -> {
+            int id = invocation.getArgument(0);
+            return Mono.just(new Product(id, 7, "Ticket " + id, "", BigDecimal.valueOf(100 + id)));
+        });
+        when(eventsClient.getEventByIdAsync(7)).thenReturn(Mono.just(
+                new Event(7, "Spring I/O", null, null, LocalDate.of(2026, 5, 21), LocalDate.of(2026, 5, 22))));
+
+        List<Registration> batch = IntStream.range(0, 2500)
+                .mapToObj(i -> new Registration(null, 1 + i % 3, null, null, null, "Attendee " + i))
+                .toList();
+        List<RegistrationResult> results = new ArrayList<>();
+        service.register(batch, results::add);
+
+        assertEquals(2500, results.size());
+        assertEquals(IntStream.range(0, 2500).boxed().toList(), results.stream().map(RegistrationResult::index).toList());
+        assertEquals("Spring I/O", results.get(0).registration().eventName());
+        assertNotNull(results.get(0).registration().ticketCode());
+        verify(eventsClient, times(3)).getProductByIdAsync(anyInt());
+        verify(eventsClient, times(1)).getEventByIdAsync(7);
+        verify(mongoOperations, times(3)).bulkOps(eq(BulkOperations.BulkMode.UNORDERED), eq(Registration.class));
+        verify(bulk, times(3)).execute();
+    }
+
+    @Test
+    void reportsRejectedAttendeesIndividually() {
+        when(eventsClient.getProductByIdAsync(1)).thenReturn(Mono.just(new Product(1, 7, "Ticket", "", BigDecimal.TEN)));
+        when(eventsClient.getProductByIdAsync(2)).thenReturn(Mono.error(new NoSuchElementException("404 Not Found")));
+        when(eventsClient.getEventByIdAsync(7)).thenReturn(Mono.just(new Event(7, "Spring I/O", null, null, null, null)));
+
+        List<RegistrationResult> results = new ArrayList<>();
+        service.register(List.of(
+                new Registration(null, 2, null, null, null, "Rui"),
+                new Registration(null, 1, null, null, null, "Ana"),
+                new Registration(null, 1, null, null, null, " ")), results::add);
+
+        assertEquals(List.of(0, 1, 2), results.stream().map(RegistrationResult::index).toList());
+        assertNotNull(results.get(0).error());
+        assertNull(results.get(1).error());
+        assertNotNull(results.get(1).registration().id());
+        assertNotNull(results.get(2).error());
+    }
+
+    @Test
+    void reportsDocumentsRefusedByTheDatabaseIndividually() {
+        when(eventsClient.getProductByIdAsync(1)).thenReturn(Mono.just(new Product(1, 7, "Ticket", "", BigDecimal.TEN)));
+        when(eventsClient.getEventByIdAsync(7)).thenReturn(Mono.just(new Event(7, "Spring I/O", null, null, null, null)));
+        BulkWriteError duplicate = new BulkWriteError(11000, "duplicate key", new BsonDocument(), 1);
+        when(bulk.execute()).thenThrow(new BulkOperationException("bulk insert failed", new MongoBulkWriteException(
+                BulkWriteResult.acknowledged(2, 0, 0, 0, List.of(), List.of()), List.of(duplicate), null,
+                new ServerAddress(), Set.of())));
+
+        List<RegistrationResult> results = new ArrayList<>();
+        service.register(List.of(
+                new Registration(null, 1, null, null, null, "Ana"),
+                new Registration(null, 1, null, null, null, "Rui"),
+                new Registration(null, 1, null, null, null, "Eva")), results::add);
+
+        assertNull(results.get(0).error());
+        assertEquals("duplicate key", results.get(1).error());
+        assertNull(results.get(2).error());
+    }
+
+    @Test
+    void failsTheWholeBulkWhenTheInsertFails() {
+        when(eventsClient.getProductByIdAsync(1)).thenReturn(Mono.just(new Product(1, 7, "Ticket", "", BigDecimal.TEN)));
+        when(eventsClient.getEventByIdAsync(7)).thenReturn(Mono.just(new Event(7, "Spring I/O", null, null, null, null)));
+        when(bulk.execute()).thenThrow(new DataAccessResourceFailureException("mongo down"));
+
+        List<RegistrationResult> results = new ArrayList<>();
+        service.register(List.of(new Registration(null, 1, null, null, null, "Ana")), results::add);
+
+        assertEquals("mongo down", results.get(0).error());
+    }
+}
@@ -0,0 +1,205 @@
+package code.with.vanilson.registration;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the blocking and the reactive registration endpoints against a stub event-service that holds
+ * every product lookup until the test releases it. Caching and batching are disabled and every
+ * registration asks for a different product, so each one waits on its own upstream call. The number
+ * of lookups the stub holds at once is then the number of registrations in flight: the blocking
+ * endpoint cannot exceed the servlet thread pool, the reactive one can.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "tickets.events.cache-ttl=PT0S",
+        "tickets.events.batch-window=PT0S",
+        "spring.data.mongodb.auto-index-creation=false",
+        "server.tomcat.threads.max=" + RegistrationLoadTest.SERVLET_THREADS
+})
+class RegistrationLoadTest {
+    private static final Logger log = LoggerFactory.getLogger(RegistrationLoadTest.class);
+
+    static final int SERVLET_THREADS = 20;
+    private static final int REQUESTS = 3 * SERVLET_THREADS;
+    private static final int STUB_DELAY_MS = 50;
+
+    private static final AtomicInteger nextProductId = new AtomicInteger();
+    private static final AtomicInteger heldLookups = new AtomicInteger();
+    private static volatile CountDownLatch release = new CountDownLatch(0);
+
+    private static final ExecutorService stubExecutor = Executors.newFixedThreadPool(200);
+    private static final HttpServer eventService = startEventService();
+
+    @DynamicPropertySource
+    static void eventServiceUrl(DynamicPropertyRegistry registry) {
+        registry.add("tickets.events.url", () -> "http://localhost:" + eventService.getAddress().getPort());
+    }
+
+    @MockBean
+    private RegistrationRepository registrationRepository;
+    @MockBean
+    private ReactiveRegistrationRepository reactiveRegistrationRepository;
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    @BeforeEach
+    void stubRepositories() {
+        when(registrationRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(reactiveRegistrationRepository.save(any())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        heldLookups.set(0);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void releaseLookups() {
+        release.countDown();
+    }
+
+    @AfterAll
+    static void stopEventService() {
+        eventService.stop(0);
+        stubExecutor.shutdownNow();
+    }
+
+    @Test
+    void blockingEndpointHoldsAServletThreadPerWaitingRegistration() throws InterruptedException {
+        long start = System.nanoTime();
+        List<CompletableFuture<HttpResponse<String>>> responses = register("/registrations", REQUESTS);
+
+        awaitHeldLookups(SERVLET_THREADS);
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertEquals(SERVLET_THREADS, heldLookups.get(), "lookups held while every servlet thread waits");
+
+        release.countDown();
+        assertRegistered(responses);
+        report("blocking", start);
+    }
+
+    @Test
+    void reactiveEndpointIsNotBoundByServletThreads() throws InterruptedException {
+        long start = System.nanoTime();
+        List<CompletableFuture<HttpResponse<String>>> responses = register("/reactive/registrations", REQUESTS);
+
+        awaitHeldLookups(REQUESTS);
+
+        release.countDown();
+        assertRegistered(responses);
+        report("reactive", start);
+    }
+
+    /**
+     * Logs the throughput of the run. It is reported only, never asserted: it includes the time the
+     * stub held the lookups and depends on the machine.
+     */
+    private static void report(String endpoint, long start) {
+        double seconds = (System.nanoTime() - start) / 1e9;
+        log.info("{} {} registrations in {} ms: {} registrations/s", REQUESTS, endpoint,
+                Math.round(seconds * 1000), Math.round(REQUESTS / seconds));
+    }
+
+    private static void awaitHeldLookups(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (heldLookups.get() < expected && System.nanoTime() - deadline < 0) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        assertEquals(expected, heldLookups.get(), "product lookups held by the stub event-service");
+    }
+
+    private List<CompletableFuture<HttpResponse<String>>> register(String path, int requests) {
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"productId\":" + nextProductId.incrementAndGet() + ",\"attendeeName\":\"Ana\"}"))
+                    .build();
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+        }
+        return responses;
+    }
+
+    private static void assertRegistered(List<CompletableFuture<HttpResponse<String>>> responses) {
+        for (CompletableFuture<HttpResponse<String>> response : responses) {
+            HttpResponse<String> result = response.orTimeout(60, TimeUnit.SECONDS).join();
+            assertEquals(200, result.statusCode(), result.body());
+            assertTrue(result.body().contains("\"eventName\":\"Spring I/O\""), result.body());
+        }
+    }
+
+    private static HttpServer startEventService() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/products/", RegistrationLoadTest::respondWithProduct);
+            server.createContext("/events/", exchange -> respond(exchange,
+                    "{\"id\":7,\"name\":\"Spring I/O\",\"startDate\":\"2026-05-21\",\"endDate\":\"2026-05-22\"}"));
+            server.setExecutor(stubExecutor);
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void respondWithProduct(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String id = path.substring(path.lastIndexOf('/') + 1);
+        heldLookups.incrementAndGet();
+        try {
+            release.await(60, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        respond(exchange, "{\"id\":" + id + ",\"eventId\":7,\"name\":\"Ticket\",\"description\":\"Day pass\",\"price\":120.00}");
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        try {
+            TimeUnit.MILLISECONDS.sleep(STUB_DELAY_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package code.with.vanilson.benchmark;
+
+import code.with.vanilson.domain.Course;
+import code.with.vanilson.service.CourseRecord;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CourseBenchmark
+ * <p>
+ * Cost of building the domain objects: the validating {@link Course} constructor and the
+ * duration parsing in {@link CourseRecord#durationInMinutes()}.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CourseBenchmark {
+
+    @Param({"00:12:37", "01:08:54.9613330"})
+    public String duration;
+
+    private String id;
+    private String name;
+    private String url;
+    private CourseRecord courseRecord;
+
+    @Setup
+    public void setUp() {
+        id = "42";
+        name = "Java Fundamentals";
+        url = "https://app.pluralsight.com/course/42";
+        courseRecord = new CourseRecord(id, name, url, duration);
+    }
+
+    @Benchmark
+    public Course newCourse() {
+        return new Course(id, name, 68, url);
+    }
+
+    @Benchmark
+    public long durationInMinutes() {
+        return courseRecord.durationInMinutes();
+    }
+}
@@ -0,0 +1,92 @@
+package code.with.vanilson.benchmark;
+
+import code.with.vanilson.domain.Course;
+import code.with.vanilson.repository.CourseRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * CourseJdbcRepositoryBenchmark
+ * <p>
+ * Measures the H2-backed repository at several table sizes. Point lookups and saves should stay
+ * flat as the table grows; {@code findAllCourses} is expected to grow linearly.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CourseJdbcRepositoryBenchmark {
+    private static final int LOAD_CHUNK = 10_000;
+
+    @Param({"1000", "100000", "1000000"})
+    public int tableSize;
+
+    private Path databaseDirectory;
+    private CourseRepository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        databaseDirectory = Files.createTempDirectory("course-benchmark");
+        repository = CourseRepository.getInstance(databaseDirectory.resolve("courses").toString());
+
+        List<Course> chunk = new ArrayList<>(LOAD_CHUNK);
+        for (int i = 0; i < tableSize; i++) {
+            chunk.add(course(i));
+            if (chunk.size() == LOAD_CHUNK) {
+                repository.saveCourses(chunk);
+                chunk.clear();
+            }
+        }
+        repository.saveCourses(chunk);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        repository.close();
+        try (Stream<Path> files = Files.walk(databaseDirectory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public void saveCourse() {
+        repository.saveCourse(course(ThreadLocalRandom.current().nextInt(tableSize)));
+    }
+
+    @Benchmark
+    public Course findCourseById() {
+        return repository.findCourseById(Integer.toString(ThreadLocalRandom.current().nextInt(tableSize)));
+    }
+
+    @Benchmark
+    public List<Course> findCoursePage() {
+        return repository.findCourses(Integer.toString(ThreadLocalRandom.current().nextInt(tableSize)), 100);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<Course> findAllCourses() {
+        return repository.findAllCourses();
+    }
+
+    private static Course course(int id) {
+        return new Course(Integer.toString(id), "Course " + id, id % 300, "https://app.pluralsight.com/course/" + id);
+    }
+}
@@ -0,0 +1,51 @@
+package code.with.vanilson.benchmark;
+
+import code.with.vanilson.domain.Course;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * CourseSerializationBenchmark
+ * <p>
+ * Jackson serialization of the course listing returned by {@code GET /courses}.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CourseSerializationBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int courseCount;
+
+    private List<Course> courses;
+    private ObjectWriter writer;
+
+    @Setup
+    public void setUp() {
+        courses = IntStream.range(0, courseCount)
+                .mapToObj(i -> new Course(Integer.toString(i), "Course " + i, i % 300,
+                        "https://app.pluralsight.com/course/" + i))
+                .toList();
+        writer = new ObjectMapper().writerFor(new TypeReference<List<Course>>() {
+        });
+    }
+
+    @Benchmark
+    public byte[] serializeCourses() throws JsonProcessingException {
+        return writer.writeValueAsBytes(courses);
+    }
+}
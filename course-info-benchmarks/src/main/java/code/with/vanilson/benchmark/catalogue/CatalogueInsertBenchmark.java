@@ -0,0 +1,113 @@
+package code.with.vanilson.benchmark.catalogue;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CatalogueInsertBenchmark
+ * <p>
+ * Reproduces at JDBC level how Hibernate writes the event-service {@code products} table with
+ * each id strategy: {@code identity} inserts row by row and reads the generated key back after
+ * every statement, {@code pooled} takes one sequence value per 50 ids and sends the rows in JDBC
+ * batches of 50. Reports rows per second. Runs on H2 in PostgreSQL mode by default; pass
+ * {@code -Dcatalogue.jdbc.url=jdbc:postgresql://...} (plus user and password) to measure real
+ * network round trips.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+@OperationsPerInvocation(CatalogueInsertBenchmark.ROWS)
+public class CatalogueInsertBenchmark {
+    static final int ROWS = 1000;
+    private static final int ALLOCATION_SIZE = 50;
+
+    private Connection connection;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("catalogue.jdbc.url", "jdbc:h2:mem:catalogue;MODE=PostgreSQL;DB_CLOSE_DELAY=-1"),
+                System.getProperty("catalogue.jdbc.user", "sa"),
+                System.getProperty("catalogue.jdbc.password", ""));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS benchmark_products");
+            statement.execute("DROP SEQUENCE IF EXISTS benchmark_products_id_seq");
+            statement.execute("CREATE SEQUENCE benchmark_products_id_seq START WITH 1 INCREMENT BY " + ALLOCATION_SIZE);
+            statement.execute("CREATE TABLE benchmark_products (id integer GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                    + "description varchar(255), event_id integer NOT NULL, name varchar(255) NOT NULL, price numeric(38,2) NOT NULL)");
+        }
+        connection.setAutoCommit(false);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public int identity() throws SQLException {
+        int inserted = 0;
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO benchmark_products (description, event_id, name, price) VALUES (?, ?, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < ROWS; i++) {
+                bind(insert, 1, i);
+                inserted += insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                }
+            }
+        }
+        connection.commit();
+        return inserted;
+    }
+
+    @Benchmark
+    public int pooled() throws SQLException {
+        int inserted = 0;
+        try (PreparedStatement nextValue = connection.prepareStatement("SELECT nextval('benchmark_products_id_seq')");
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO benchmark_products (id, description, event_id, name, price) VALUES (?, ?, ?, ?, ?)")) {
+            int hi = 0;
+            for (int i = 0; i < ROWS; i++) {
+                if (i % ALLOCATION_SIZE == 0) {
+                    try (ResultSet value = nextValue.executeQuery()) {
+                        value.next();
+                        hi = value.getInt(1);
+                    }
+                }
+                insert.setInt(1, hi + i % ALLOCATION_SIZE);
+                bind(insert, 2, i);
+                insert.addBatch();
+                if ((i + 1) % ALLOCATION_SIZE == 0) {
+                    inserted += insert.executeBatch().length;
+                }
+            }
+            inserted += insert.executeBatch().length;
+        }
+        connection.commit();
+        return inserted;
+    }
+
+    private static void bind(PreparedStatement insert, int first, int row) throws SQLException {
+        insert.setString(first, "Ticket for attendee " + row);
+        insert.setInt(first + 1, 500 + row % 10);
+        insert.setString(first + 2, "Standard");
+        insert.setBigDecimal(first + 3, BigDecimal.valueOf(49900 + row, 2));
+    }
+}
@@ -0,0 +1,37 @@
+package code.with.vanilson.benchmark.kafka;
+
+import code.with.vanilson.producer.Product;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.common.serialization.Serializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * LegacyListProducerSerializer
+ * <p>
+ * The product serializer as it was before the shared {@code ObjectWriter}: a new
+ * {@link ObjectMapper} and an INFO log line per record. Kept only as a benchmark baseline.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+class LegacyListProducerSerializer implements Serializer<List<Product>> {
+    private static final Logger log = LoggerFactory.getLogger(LegacyListProducerSerializer.class);
+
+    @Override
+    public byte[] serialize(String topic, List<Product> data) {
+        ObjectMapper mapper = new ObjectMapper();
+        try {
+            log.info("Object converted to arrays of bytes success");
+            return mapper.writeValueAsBytes(data);
+
+        } catch (JsonProcessingException e) {
+            log.error("Couldn't serializa object:{}", e.getMessage());
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package code.with.vanilson.benchmark.kafka;
+
+import code.with.vanilson.config.ProducerConfig;
+import code.with.vanilson.config.ProducerProfile;
+import code.with.vanilson.mapper.ProductWireFormat;
+import code.with.vanilson.producer.Product;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * ProducerProfileBenchmark
+ * <p>
+ * Sends product events with each {@link ProducerProfile} to a running broker: {@code sendAsync}
+ * shows the records/s a profile sustains, {@code sendAndAwaitAck} the acknowledgement latency
+ * distribution. Start the broker from {@code conduktor-platform/docker-compose.yml} or point
+ * {@code -Dkafka.bootstrap.servers} at another one.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class ProducerProfileBenchmark {
+    private static final String TOPIC = "benchmark-products";
+
+    @Param({"low-latency", "high-throughput", "durable"})
+    public String profile;
+
+    @Param({"10"})
+    public int productCount;
+
+    private Producer<String, List<Product>> producer;
+    private List<Product> products;
+
+    @Setup
+    public void setUp() {
+        Properties overrides = new Properties();
+        overrides.setProperty("max.block.ms", "10000");
+        producer = new KafkaProducer<>(ProducerConfig.getKafkaProperties(
+                ProductWireFormat.JSON, ProducerProfile.of(profile), overrides));
+        products = IntStream.range(0, productCount)
+                .mapToObj(i -> new Product("Product " + i, i % 50, BigDecimal.valueOf(1000 + i, 2), "v" + i % 3))
+                .toList();
+    }
+
+    @TearDown
+    public void tearDown() {
+        producer.close();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Threads(4)
+    public Future<RecordMetadata> sendAsync() {
+        return producer.send(new ProducerRecord<>(TOPIC, "truck_id " + (System.nanoTime() & 127), products));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Threads(4)
+    public RecordMetadata sendAndAwaitAck() throws ExecutionException, InterruptedException {
+        return producer.send(new ProducerRecord<>(TOPIC, "truck_id " + (System.nanoTime() & 127), products)).get();
+    }
+}
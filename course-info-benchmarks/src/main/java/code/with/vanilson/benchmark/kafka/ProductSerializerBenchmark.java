@@ -0,0 +1,90 @@
+package code.with.vanilson.benchmark.kafka;
+
+import code.with.vanilson.mapper.ListProducerSerializer;
+import code.with.vanilson.mapper.ProductBinaryDeserializer;
+import code.with.vanilson.mapper.ProductBinarySerializer;
+import code.with.vanilson.producer.Product;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * ProductSerializerBenchmark
+ * <p>
+ * Compares the shared-writer {@link ListProducerSerializer} with the original per-call
+ * {@code ObjectMapper} version and with the compact {@link ProductBinarySerializer}. Run with {@code -prof gc} to get bytes/op
+ * ({@code gc.alloc.rate.norm}) next to ns/op. The payload size of each format is reported as the
+ * {@code payloadBytes} secondary result.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class ProductSerializerBenchmark {
+
+    @Param({"6", "100", "1000"})
+    public int productCount;
+
+    private List<Product> products;
+    private ListProducerSerializer serializer;
+    private LegacyListProducerSerializer legacySerializer;
+    private ProductBinarySerializer binarySerializer;
+    private ProductBinaryDeserializer binaryDeserializer;
+    private byte[] binaryPayload;
+
+    @Setup
+    public void setUp() {
+        products = IntStream.range(0, productCount)
+                .mapToObj(i -> new Product("Product " + i, i % 50, BigDecimal.valueOf(1000 + i, 2), "v" + i % 3))
+                .toList();
+        serializer = new ListProducerSerializer();
+        legacySerializer = new LegacyListProducerSerializer();
+        binarySerializer = new ProductBinarySerializer();
+        binaryDeserializer = new ProductBinaryDeserializer();
+        binaryPayload = binarySerializer.serialize("twitter-topic", products);
+    }
+
+    /**
+     * Size in bytes of the payload the benchmark method wrote or read.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+        public long payloadBytes;
+    }
+
+    @Benchmark
+    public byte[] sharedWriter(PayloadSize size) {
+        return measured(serializer.serialize("twitter-topic", products), size);
+    }
+
+    @Benchmark
+    public byte[] newMapperPerCall(PayloadSize size) {
+        return measured(legacySerializer.serialize("twitter-topic", products), size);
+    }
+
+    @Benchmark
+    public byte[] binary(PayloadSize size) {
+        return measured(binarySerializer.serialize("twitter-topic", products), size);
+    }
+
+    @Benchmark
+    public List<Product> binaryDeserialize(PayloadSize size) {
+        size.payloadBytes = binaryPayload.length;
+        return binaryDeserializer.deserialize("twitter-topic", binaryPayload);
+    }
+
+    private static byte[] measured(byte[] payload, PayloadSize size) {
+        size.payloadBytes = payload.length;
+        return payload;
+    }
+}
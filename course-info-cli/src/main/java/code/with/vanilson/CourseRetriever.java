@@ -1,27 +1,39 @@
 package code.with.vanilson;
 
 import code.with.vanilson.repository.CourseRepository;
-import code.with.vanilson.service.CourseRecord;
+import code.with.vanilson.service.CourseFanOut;
 import code.with.vanilson.service.CourseRetrieveService;
 import code.with.vanilson.service.CourseStorageService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Stream;
 
 public class CourseRetriever {
     public static final Logger log = LoggerFactory.getLogger(CourseRetriever.class);
+    private static final int DEFAULT_MAX_CONCURRENCY = 16;
+    private static final int STORE_BATCH_SIZE = 100;
 
     public static void main(String... args) {
         log.info("CourseRecord is starting");
         if (args.length == 0) {
-            log.info("Please provide an author name as first argument.");
+            log.info("Please provide one or more author names, or --authors-file <file> with one author per line.");
             return;
         }
 
         try {
 
-            retrieveCourse(args[0]);
+            List<String> authors = readAuthors(args);
+            if (authors.size() == 1) {
+                retrieveCourse(authors.get(0));
+            } else {
+                retrieveCourses(authors);
+            }
             //todo : before was this retrieveCourse(args[0])// it will not be printed use record when the member  of
             // the class are all final, because the record immutable was create o can not set new value.
 
@@ -36,19 +48,50 @@ public class CourseRetriever {
         }
     }
 
+    private static List<String> readAuthors(String... args) throws IOException {
+        if ("--authors-file".equals(args[0])) {
+            if (args.length < 2) {
+                throw new IllegalArgumentException("--authors-file needs a file name");
+            }
+            try (Stream<String> lines = Files.lines(Path.of(args[1]))) {
+                return lines.map(String::strip)
+                        .filter(line -> !line.isEmpty())
+                        .distinct()
+                        .toList();
+            }
+        }
+        return Arrays.stream(args).distinct().toList();
+    }
+
+    /**
+     * Retrieves the courses of all authors concurrently, storing each author's courses in batches
+     * of {@value #STORE_BATCH_SIZE} while they are downloaded. The number of requests in flight is bounded by the
+     * {@code course-info.max-concurrency} system property.
+     */
+    private static void retrieveCourses(List<String> authors) {
+        int maxConcurrency = Integer.getInteger("course-info.max-concurrency", DEFAULT_MAX_CONCURRENCY);
+        log.info("Retrieving courses for {} authors, {} at a time", authors.size(), maxConcurrency);
+        CourseFanOut fanOut = new CourseFanOut(new CourseRetrieveService(), maxConcurrency);
+
+        CourseFanOut.RetrievalSummary summary;
+        try (CourseRepository courseRepository = CourseRepository.getInstance("./courses.db")) {
+            CourseStorageService courseStorageService = new CourseStorageService(courseRepository);
+            summary = fanOut.retrieveAll(authors, author -> courseStorageService.openSink(STORE_BATCH_SIZE));
+        }
+        log.info("{} courses stored for {} of {} authors", summary.courses(), summary.authors() - summary.failures().size(), summary.authors());
+        if (!summary.failures().isEmpty()) {
+            log.warn("Failed authors {}", summary.failures().keySet());
+        }
+    }
+
     private static void retrieveCourse(String authorId) {
         log.info("Retrieving courses for author {}", authorId);
         var service = new CourseRetrieveService();
-        //filtering course
-        CourseRepository courseRepository = CourseRepository.getInstance("./courses.db");
-        CourseStorageService courseStorageService = new CourseStorageService(courseRepository);
-
-        List<CourseRecord> courseRecordToStore = service.getCoursesFor(authorId)
-                .stream()
-                .limit(12)
-                .toList();
-        log.info("Retrieved the following  {} courses {}", courseRecordToStore.size(), courseRecordToStore);
-        courseStorageService.storeCourse(courseRecordToStore);
-        log.info("Courses successfully stored");
+        int stored;
+        try (CourseRepository courseRepository = CourseRepository.getInstance("./courses.db");
+             CourseStorageService.CourseSink sink = new CourseStorageService(courseRepository).openSink(STORE_BATCH_SIZE)) {
+            stored = service.streamCoursesFor(authorId, sink);
+        }
+        log.info("{} courses successfully stored", stored);
     }
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+package code.with.vanilson.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * CourseFanOut
+ * <p>
+ * Retrieves the courses of many authors concurrently, with at most {@code maxConcurrency}
+ * requests in flight. Every response is streamed into the sink opened for its author, so
+ * storing the courses overlaps with the download and no catalogue is held in memory as a whole.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class CourseFanOut {
+    private static final Logger log = LoggerFactory.getLogger(CourseFanOut.class);
+
+    private final CourseRetrieveService courseRetrieveService;
+    private final int maxConcurrency;
+
+    public CourseFanOut(CourseRetrieveService courseRetrieveService, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be at least 1 but was " + maxConcurrency);
+        }
+        this.courseRetrieveService = courseRetrieveService;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Retrieves the courses of every author and waits until all of them were stored.
+     * A failing author is logged and reported in the summary; it does not stop the others.
+     *
+     * @param authors  the authors to retrieve
+     * @param openSink opens the sink for one author; it is closed once that author's response ends.
+     *                 Called from several threads at the same time
+     * @return what was retrieved
+     */
+    public RetrievalSummary retrieveAll(Collection<String> authors,
+                                        Function<String, CourseStorageService.CourseSink> openSink) {
+        AtomicInteger courses = new AtomicInteger();
+        Map<String, String> failures = new ConcurrentHashMap<>();
+        List<CompletableFuture<Void>> pending = new ArrayList<>(authors.size());
+        ExecutorService executor = Executors.newFixedThreadPool(maxConcurrency);
+        try {
+            for (String author : authors) {
+                pending.add(CompletableFuture.runAsync(() -> {
+                    try (CourseStorageService.CourseSink sink = openSink.apply(author)) {
+                        courses.addAndGet(courseRetrieveService.streamCoursesFor(author, sink));
+                    } catch (RuntimeException e) {
+                        log.error("Could not retrieve courses for author {}: {}", author, e.getMessage());
+                        failures.put(author, String.valueOf(e.getMessage()));
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdown();
+        }
+        return new RetrievalSummary(authors.size(), courses.get(), Map.copyOf(failures));
+    }
+
+    /**
+     * @param authors  the number of authors requested
+     * @param courses  the number of courses handed to the consumer
+     * @param failures the error message of every author that could not be retrieved
+     */
+    public record RetrievalSummary(int authors, int courses, Map<String, String> failures) {
+    }
+}
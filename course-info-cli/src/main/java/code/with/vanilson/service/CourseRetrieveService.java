@@ -1,11 +1,14 @@
 package code.with.vanilson.service;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
@@ -13,6 +16,7 @@ import java.net.http.HttpResponse;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * CourseRetrieveService
@@ -39,29 +43,24 @@ public class CourseRetrieveService {
 
     public static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
+    private final String uriTemplate;
+
+    public CourseRetrieveService() {
+        this(PS_URI);
+    }
+
+    /**
+     * @param uriTemplate the catalogue URI; a {@code %s} in it is replaced by the author
+     */
+    public CourseRetrieveService(String uriTemplate) {
+        this.uriTemplate = uriTemplate;
+    }
+
     public List<CourseRecord> getCoursesFor(String author) {
-        HttpRequest request = HttpRequest
-                .newBuilder(URI.create(PS_URI.formatted(author)))
-                .GET()
-                .header("Content-Type", "application/json")
-                .timeout(Duration.ofMinutes(2))
-                .build();
         try {
-            HttpResponse<String> httpResponse = CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> httpResponse = CLIENT.send(requestFor(author), HttpResponse.BodyHandlers.ofString());
             log.info("Response {}", httpResponse);
-
-            return switch (httpResponse.statusCode()) {
-                case 200 -> toGetCourses(httpResponse);
-                case 404 -> {
-                    log.warn("No courses found for author {}", author);
-                    yield new ArrayList<>(9);
-                }
-                case 500 -> {
-                    log.error("Internal server error while retrieving courses for author {}", author);
-                    yield List.of();
-                }
-                default -> throw new RequestException("Request failed with status code: " + httpResponse.statusCode());
-            };
+            return toCourses(author, httpResponse);
 
         } catch (IOException | InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -70,6 +69,86 @@ public class CourseRetrieveService {
         }
     }
 
+    /**
+     * Streaming variant of {@link #getCoursesFor(String)}: the response body is parsed token by
+     * token while it is downloaded and every course is handed to {@code consumer} as soon as it
+     * has been read, so memory use does not depend on the size of the catalogue. A body that ends
+     * before the closing bracket of the array fails with a {@link RequestException}, so a
+     * truncated response cannot pass for a short catalogue.
+     *
+     * @return the number of courses handed to {@code consumer}
+     */
+    public int streamCoursesFor(String author, Consumer<CourseRecord> consumer) {
+        try {
+            HttpResponse<InputStream> httpResponse =
+                    CLIENT.send(requestFor(author), HttpResponse.BodyHandlers.ofInputStream());
+            log.info("Response {}", httpResponse);
+            try (InputStream body = httpResponse.body()) {
+                return switch (httpResponse.statusCode()) {
+                    case 200 -> readCourses(body, consumer);
+                    case 404 -> {
+                        log.warn("No courses found for author {}", author);
+                        yield 0;
+                    }
+                    case 500 -> {
+                        log.error("Internal server error while retrieving courses for author {}", author);
+                        yield 0;
+                    }
+                    default -> throw new RequestException("Request failed with status code: " + httpResponse.statusCode());
+                };
+            }
+        } catch (IOException e) {
+            log.error("Error reading courses of author {}: {}", author, e.getMessage(), e);
+            throw new RequestException("Error reading courses of author " + author + ": " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RequestException("Interrupted while retrieving courses of author " + author);
+        }
+    }
+
+    private static int readCourses(InputStream body, Consumer<CourseRecord> consumer) throws IOException {
+        try (JsonParser parser = OBJECT_MAPPER.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new RequestException("Expected a JSON array of courses");
+            }
+            int count = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+                consumer.accept(OBJECT_MAPPER.readValue(parser, CourseRecord.class));
+                count++;
+            }
+            if (token != JsonToken.END_ARRAY) {
+                throw new RequestException("Course list ended with " + token + " after " + count + " courses");
+            }
+            return count;
+        }
+    }
+
+    private HttpRequest requestFor(String author) {
+        return HttpRequest
+                .newBuilder(URI.create(uriTemplate.formatted(author)))
+                .GET()
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofMinutes(2))
+                .build();
+    }
+
+    private static List<CourseRecord> toCourses(String author, HttpResponse<String> httpResponse)
+            throws JsonProcessingException {
+        return switch (httpResponse.statusCode()) {
+            case 200 -> toGetCourses(httpResponse);
+            case 404 -> {
+                log.warn("No courses found for author {}", author);
+                yield new ArrayList<>(9);
+            }
+            case 500 -> {
+                log.error("Internal server error while retrieving courses for author {}", author);
+                yield List.of();
+            }
+            default -> throw new RequestException("Request failed with status code: " + httpResponse.statusCode());
+        };
+    }
+
 
     private static List<CourseRecord> toGetCourses(HttpResponse<String> httpResponse) throws JsonProcessingException {
         var returnType = OBJECT_MAPPER.getTypeFactory()
@@ -3,7 +3,9 @@ package code.with.vanilson.service;
 import code.with.vanilson.domain.Course;
 import code.with.vanilson.repository.CourseRepository;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * CourseStorageService
@@ -20,10 +22,57 @@ public class CourseStorageService {
     }
 
     public void storeCourse(List<CourseRecord> psCourses) {
-        for (CourseRecord psCourse : psCourses) {
-            Course course1 = new Course(psCourse.id(), psCourse.title(), psCourse.durationInMinutes(), psCourse.body());
-            courseRepository.saveCourse(course1);
+        List<Course> courses = psCourses.stream()
+                .map(psCourse -> new Course(psCourse.id(), psCourse.title(), psCourse.durationInMinutes(), psCourse.body()))
+                .toList();
+        courseRepository.saveCourses(courses);
+    }
+
+    /**
+     * Opens a sink that stores the courses handed to it in batches of {@code batchSize}, so that
+     * courses can be persisted while they are still being downloaded. Closing the sink stores
+     * whatever is left in the last batch.
+     */
+    public CourseSink openSink(int batchSize) {
+        return new CourseSink(batchSize);
+    }
+
+    public class CourseSink implements Consumer<CourseRecord>, AutoCloseable {
+        private final int batchSize;
+        private final List<CourseRecord> batch;
+        private int stored;
+
+        private CourseSink(int batchSize) {
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("Batch size must be at least 1 but was " + batchSize);
+            }
+            this.batchSize = batchSize;
+            this.batch = new ArrayList<>(batchSize);
+        }
+
+        @Override
+        public void accept(CourseRecord courseRecord) {
+            batch.add(courseRecord);
+            if (batch.size() == batchSize) {
+                flush();
+            }
+        }
+
+        public int stored() {
+            return stored;
+        }
+
+        private void flush() {
+            storeCourse(batch);
+            stored += batch.size();
+            batch.clear();
+        }
 
+        @Override
+        public void close() {
+            if (!batch.isEmpty()) {
+                flush();
+            }
         }
     }
 }
\ No newline at end of file
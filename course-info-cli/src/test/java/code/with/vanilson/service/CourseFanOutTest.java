@@ -0,0 +1,101 @@
+package code.with.vanilson.service;
+
+import code.with.vanilson.domain.Course;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CourseFanOutTest {
+    private static final int MAX_CONCURRENCY = 4;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private HttpServer server;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void startStubServer() throws IOException {
+        executor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(executor);
+        server.createContext("/authors/", exchange -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+                String author = exchange.getRequestURI().getPath().substring("/authors/".length());
+                int status = author.equals("unknown") ? 418 : 200;
+                byte[] body = """
+                        [{"id": "%1$s-1", "title": "Course of %1$s", "body": "https://app.pluralsight.com/%1$s",
+                          "duration": "00:30:00", "userId": 7}]
+                        """.formatted(author).getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(status, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopStubServer() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void retrievesAllAuthorsWithBoundedConcurrency() {
+        var service = new CourseRetrieveService(
+                "http://localhost:" + server.getAddress().getPort() + "/authors/%s");
+        List<String> authors = IntStream.range(0, 20).mapToObj(i -> "author" + i).toList();
+        Map<String, CourseStorageServiceTest.InMemoryCourseStorageService> stored = new ConcurrentHashMap<>();
+
+        CourseFanOut.RetrievalSummary summary = new CourseFanOut(service, MAX_CONCURRENCY)
+                .retrieveAll(authors, author -> {
+                    var repository = new CourseStorageServiceTest.InMemoryCourseStorageService();
+                    stored.put(author, repository);
+                    return new CourseStorageService(repository).openSink(10);
+                });
+
+        assertEquals(new CourseFanOut.RetrievalSummary(20, 20, Map.of()), summary);
+        assertEquals(Set.copyOf(authors), stored.keySet());
+        assertEquals(Set.of("author3-1"),
+                stored.get("author3").findAllCourses().stream().map(Course::id).collect(Collectors.toSet()));
+        assertTrue(maxInFlight.get() <= MAX_CONCURRENCY, "Up to " + maxInFlight.get() + " requests in flight");
+    }
+
+    @Test
+    void failingAuthorDoesNotStopTheOthers() {
+        var service = new CourseRetrieveService(
+                "http://localhost:" + server.getAddress().getPort() + "/authors/%s");
+
+        CourseFanOut.RetrievalSummary summary = new CourseFanOut(service, MAX_CONCURRENCY)
+                .retrieveAll(List.of("alice", "unknown", "bob"), author ->
+                        new CourseStorageService(new CourseStorageServiceTest.InMemoryCourseStorageService()).openSink(10));
+
+        assertEquals(2, summary.courses());
+        assertEquals(Set.of("unknown"), summary.failures().keySet());
+    }
+}
@@ -0,0 +1,102 @@
+package code.with.vanilson.service;
+
+import code.with.vanilson.domain.Course;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CourseRetrieveServiceTest {
+    private static final int HALF = 100;
+
+    private final CountDownLatch firstBatchStored = new CountDownLatch(1);
+    private final AtomicBoolean storedDuringDownload = new AtomicBoolean();
+    private HttpServer server;
+
+    @BeforeEach
+    void startStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/courses", exchange -> {
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(("[" + courses(0, HALF) + ",").getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                storedDuringDownload.set(firstBatchStored.await(5, TimeUnit.SECONDS));
+                out.write((courses(HALF, 2 * HALF) + "]").getBytes(StandardCharsets.UTF_8));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        server.createContext("/truncated", exchange -> {
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(("[" + courses(0, 3)).getBytes(StandardCharsets.UTF_8));
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopStubServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void streamsCoursesIntoStorageWhileDownloading() {
+        var service = new CourseRetrieveService("http://localhost:" + server.getAddress().getPort() + "/courses");
+        var repository = new CourseStorageServiceTest.InMemoryCourseStorageService();
+        List<Integer> batchSizes = new ArrayList<>();
+        var storage = new CourseStorageService(new CourseStorageServiceTest.InMemoryCourseStorageService() {
+            @Override
+            public void saveCourses(Collection<Course> courses) {
+                batchSizes.add(courses.size());
+                courses.forEach(repository::saveCourse);
+                firstBatchStored.countDown();
+            }
+        });
+
+        int streamed;
+        try (CourseStorageService.CourseSink sink = storage.openSink(50)) {
+            streamed = service.streamCoursesFor("vanilson", sink);
+        }
+
+        assertEquals(2 * HALF, streamed);
+        assertEquals(2 * HALF, repository.findAllCourses().size());
+        assertEquals(List.of(50, 50, 50, 50), batchSizes);
+        assertTrue(storedDuringDownload.get(), "Nothing was stored before the download finished");
+    }
+
+    @Test
+    void truncatedResponseFailsInsteadOfLookingShort() {
+        var service = new CourseRetrieveService("http://localhost:" + server.getAddress().getPort() + "/truncated");
+        List<CourseRecord> received = new ArrayList<>();
+
+        assertThrows(RequestException.class, () -> service.streamCoursesFor("vanilson", received::add));
+        assertEquals(3, received.size());
+    }
+
+    private static String courses(int from, int to) {
+        return IntStream.range(from, to)
+                .mapToObj(i -> """
+                        {"id": "%d", "title": "Course %d", "body": "https://app.pluralsight.com/%d", "duration": "00:10:00"}
+                        """.formatted(i, i, i))
+                .collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,22 @@
+package code.with.vanilson.repository;
+
+/**
+ * CacheStats
+ * <p>
+ * Point-in-time counters of a {@link CachingCourseRepository}.
+ *
+ * @param size      the number of courses currently cached
+ * @param hits      lookups answered from the cache
+ * @param misses    lookups that had to go to the underlying repository
+ * @param evictions entries dropped because the cache was full or the entry expired
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record CacheStats(int size, long hits, long misses, long evictions) {
+
+    public double hitRatio() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,139 @@
+package code.with.vanilson.repository;
+
+import code.with.vanilson.domain.Course;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * CachingCourseRepository
+ * <p>
+ * Read-through cache in front of another {@link CourseRepository}. Courses looked up by id are
+ * kept in a size-bounded LRU map and expire after a fixed time to live. Saving a course through
+ * this repository invalidates what was cached for it; writes made elsewhere are only picked up
+ * once the entry expires. Listings and pages always go to the underlying repository.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class CachingCourseRepository implements CourseRepository {
+
+    private final CourseRepository delegate;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+
+    private final Map<String, CachedValue<Course>> courses;
+    // bumped on every write so that a read racing with it does not cache what it loaded
+    private long generation;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public CachingCourseRepository(CourseRepository delegate, int maxSize, Duration ttl) {
+        this(delegate, maxSize, ttl, System::nanoTime);
+    }
+
+    CachingCourseRepository(CourseRepository delegate, int maxSize, Duration ttl, LongSupplier clock) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Cache size must be at least 1 but was " + maxSize);
+        }
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+        this.courses = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedValue<Course>> eldest) {
+                if (size() > CachingCourseRepository.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public void saveCourse(Course course) {
+        delegate.saveCourse(course);
+        invalidate(List.of(course));
+    }
+
+    @Override
+    public void saveCourses(Collection<Course> courses) {
+        delegate.saveCourses(courses);
+        invalidate(courses);
+    }
+
+    @Override
+    public Course findCourseById(String id) {
+        long loadedAt;
+        synchronized (this) {
+            CachedValue<Course> cached = courses.get(id);
+            if (cached != null) {
+                if (!cached.isExpired(clock.getAsLong())) {
+                    hits.incrementAndGet();
+                    return cached.value();
+                }
+                courses.remove(id);
+                evictions.incrementAndGet();
+            }
+            loadedAt = generation;
+        }
+        misses.incrementAndGet();
+        Course course = delegate.findCourseById(id);
+        synchronized (this) {
+            if (loadedAt == generation) {
+                courses.put(id, new CachedValue<>(course, clock.getAsLong() + ttlNanos));
+            }
+        }
+        return course;
+    }
+
+    @Override
+    public List<Course> findAllCourses() {
+        return delegate.findAllCourses();
+    }
+
+    @Override
+    public List<Course> findCourses(String afterId, int limit) {
+        return delegate.findCourses(afterId, limit);
+    }
+
+    @Override
+    public Optional<PoolMetrics> poolMetrics() {
+        return delegate.poolMetrics();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    public synchronized CacheStats stats() {
+        return new CacheStats(courses.size(), hits.get(), misses.get(), evictions.get());
+    }
+
+    private synchronized void invalidate(Collection<Course> saved) {
+        for (Course course : saved) {
+            courses.remove(course.id());
+        }
+        generation++;
+    }
+
+    private record CachedValue<T>(T value, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
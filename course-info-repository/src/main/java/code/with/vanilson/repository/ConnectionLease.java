@@ -0,0 +1,86 @@
+package code.with.vanilson.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * ConnectionLease
+ * <p>
+ * A physical connection together with the prepared statements already compiled on it.
+ * Statements handed out by {@link #prepare(String)} belong to the lease and must not be
+ * closed by the caller; they come back without parameters or a pending batch left over from a
+ * failed use. Closing the lease hands the connection back to its owner.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+final class ConnectionLease implements AutoCloseable {
+    private final Connection connection;
+    private final Map<String, PreparedStatement> statements = new HashMap<>();
+    private Consumer<ConnectionLease> onRelease;
+
+    ConnectionLease(Connection connection) {
+        this.connection = connection;
+    }
+
+    Connection connection() {
+        return connection;
+    }
+
+    PreparedStatement prepare(String sql) throws SQLException {
+        PreparedStatement statement = statements.get(sql);
+        if (statement == null || statement.isClosed()) {
+            statement = connection.prepareStatement(sql);
+            statements.put(sql, statement);
+        } else {
+            statement.clearParameters();
+            statement.clearBatch();
+        }
+        return statement;
+    }
+
+    boolean isUsable() {
+        try {
+            return !connection.isClosed() && connection.getAutoCommit();
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    void onRelease(Consumer<ConnectionLease> onRelease) {
+        this.onRelease = onRelease;
+    }
+
+    /**
+     * Closes the cached statements and the physical connection.
+     */
+    void destroy() {
+        for (PreparedStatement statement : statements.values()) {
+            try {
+                statement.close();
+            } catch (SQLException ignored) {
+                // the connection is going away anyway
+            }
+        }
+        statements.clear();
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+            // nothing left to release
+        }
+    }
+
+    @Override
+    public void close() {
+        if (onRelease != null) {
+            onRelease.accept(this);
+        } else {
+            destroy();
+        }
+    }
+}
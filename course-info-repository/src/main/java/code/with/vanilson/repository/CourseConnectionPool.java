@@ -0,0 +1,112 @@
+package code.with.vanilson.repository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * CourseConnectionPool
+ * <p>
+ * A small bounded pool of {@link ConnectionLease}s. Physical connections are opened lazily,
+ * at most {@code maxSize} of them are ever borrowed at the same time, and each keeps its own
+ * prepared-statement cache for as long as it stays in the pool.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+final class CourseConnectionPool implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(CourseConnectionPool.class);
+
+    private final DataSource dataSource;
+    private final int maxSize;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+    private final BlockingQueue<ConnectionLease> idle;
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicLong borrowCount = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong longestWaitNanos = new AtomicLong();
+    private volatile boolean closed;
+
+    CourseConnectionPool(DataSource dataSource, int maxSize, Duration maxWait) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Pool size must be at least 1 but was " + maxSize);
+        }
+        this.dataSource = dataSource;
+        this.maxSize = maxSize;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.permits = new Semaphore(maxSize, true);
+        this.idle = new ArrayBlockingQueue<>(maxSize);
+    }
+
+    ConnectionLease borrow() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed");
+        }
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                throw new SQLTimeoutException("Timed out waiting for a database connection after "
+                        + TimeUnit.NANOSECONDS.toMillis(maxWaitNanos) + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+        recordWait(System.nanoTime() - start);
+
+        try {
+            ConnectionLease lease = idle.poll();
+            if (lease == null) {
+                lease = new ConnectionLease(dataSource.getConnection());
+                lease.onRelease(this::release);
+            }
+            active.incrementAndGet();
+            return lease;
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void release(ConnectionLease lease) {
+        active.decrementAndGet();
+        if (closed || !lease.isUsable() || !idle.offer(lease)) {
+            lease.destroy();
+        }
+        permits.release();
+    }
+
+    private void recordWait(long waited) {
+        borrowCount.incrementAndGet();
+        totalWaitNanos.addAndGet(waited);
+        longestWaitNanos.accumulateAndGet(waited, Math::max);
+    }
+
+    PoolMetrics metrics() {
+        return new PoolMetrics(maxSize, active.get(), idle.size(),
+                borrowCount.get(), totalWaitNanos.get(), longestWaitNanos.get());
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        ConnectionLease lease;
+        while ((lease = idle.poll()) != null) {
+            lease.destroy();
+        }
+        log.info("Connection pool closed {}", metrics());
+    }
+}
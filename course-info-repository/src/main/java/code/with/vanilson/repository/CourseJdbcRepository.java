@@ -8,12 +8,18 @@ import org.slf4j.LoggerFactory;
 
 import javax.sql.DataSource;
 import java.io.BufferedReader;
-import java.io.FileReader;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.sql.*;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * CourseJdbcRepository
@@ -28,27 +34,65 @@ class CourseJdbcRepository implements CourseRepository {
 
     // DATABASE FOR CONNECTIVITY
     private final DataSource dataSource;
+    // null when every call opens its own connection
+    private final CourseConnectionPool pool;
 
     private static final String H2_DATABASE_URL =
             "jdbc:h2:file:%s;AUTO_SERVER=TRUE;DB_CLOSE_DELAY=-1"; // Removed INIT parameter
 
+    private static final Duration POOL_MAX_WAIT =
+            Duration.ofMillis(Long.getLong("course-info.pool.max-wait-ms", 5_000));
+
+    private static final int BATCH_SIZE = Integer.getInteger("course-info.batch-size", 500);
+
     private static final String INSERT_COURSE = """
             MERGE INTO COURSES (id, name, length, url) VALUES (?, ?, ?, ?)
             """;
 
+    private static final String SELECT_COURSE_BY_ID =
+            "SELECT course.id, course.name, course.length, course.url FROM COURSES course WHERE course.id = ?";
+
+    private static final String SELECT_ALL_COURSES =
+            "SELECT course.id, course.name, course.length, course.url FROM COURSES course";
+
+    private static final String SELECT_FIRST_PAGE =
+            SELECT_ALL_COURSES + " ORDER BY course.id LIMIT ?";
+
+    private static final String SELECT_PAGE_AFTER =
+            SELECT_ALL_COURSES + " WHERE course.id > ? ORDER BY course.id LIMIT ?";
+
     public CourseJdbcRepository(String databaseFile) {
-        JdbcDataSource ds = new JdbcDataSource();
-        ds.setURL(H2_DATABASE_URL.formatted(databaseFile));
-        this.dataSource = ds;
+        this(databaseFile, 0);
+    }
+
+    /**
+     * @param databaseFile the H2 database file
+     * @param poolSize     the maximum number of pooled connections, or {@code 0} to open a
+     *                     new connection for every call
+     */
+    public CourseJdbcRepository(String databaseFile, int poolSize) {
+        this(h2DataSource(databaseFile), poolSize);
+    }
+
+    CourseJdbcRepository(DataSource dataSource, int poolSize) {
+        this.dataSource = dataSource;
+        this.pool = poolSize > 0 ? new CourseConnectionPool(dataSource, poolSize, POOL_MAX_WAIT) : null;
 
         // Execute the initialization script after setting up the DataSource
         executeInitScript("db_init.sql"); // Adjust the path as needed
     }
 
+    private static DataSource h2DataSource(String databaseFile) {
+        JdbcDataSource ds = new JdbcDataSource();
+        ds.setURL(H2_DATABASE_URL.formatted(databaseFile));
+        return ds;
+    }
+
     private void executeInitScript(String scriptPath) {
         try (Connection connection = dataSource.getConnection();
              Statement stmt = connection.createStatement();
-             BufferedReader reader = new BufferedReader(new FileReader(scriptPath))) {
+             BufferedReader reader = new BufferedReader(
+                     new InputStreamReader(openScript(scriptPath), StandardCharsets.UTF_8))) {
             StringBuilder sql = new StringBuilder();
             String line;
             while ((line = reader.readLine()) != null) {
@@ -60,10 +104,19 @@ class CourseJdbcRepository implements CourseRepository {
         }
     }
 
+    private static InputStream openScript(String scriptPath) throws IOException {
+        InputStream classpathScript = CourseJdbcRepository.class.getResourceAsStream("/" + scriptPath);
+        return classpathScript != null ? classpathScript : new FileInputStream(scriptPath);
+    }
+
+    private ConnectionLease lease() throws SQLException {
+        return pool != null ? pool.borrow() : new ConnectionLease(dataSource.getConnection());
+    }
+
     @Override
     public void saveCourse(Course course) {
-        try (Connection con = this.dataSource.getConnection();
-             PreparedStatement statement = con.prepareStatement(INSERT_COURSE)) {
+        try (ConnectionLease lease = lease()) {
+            PreparedStatement statement = lease.prepare(INSERT_COURSE);
             statement.setString(1, course.id());
             statement.setString(2, course.name());
             statement.setLong(3, course.length());
@@ -74,22 +127,66 @@ class CourseJdbcRepository implements CourseRepository {
         }
     }
 
+    /**
+     * Saves all courses in a single transaction, sending them to the database in JDBC batches
+     * of {@code course-info.batch-size} rows (500 by default).
+     */
+    @Override
+    public void saveCourses(Collection<Course> courses) {
+        if (courses.isEmpty()) {
+            return;
+        }
+        try (ConnectionLease lease = lease()) {
+            Connection connection = lease.connection();
+            connection.setAutoCommit(false);
+            try {
+                PreparedStatement statement = lease.prepare(INSERT_COURSE);
+                int pending = 0;
+                for (Course course : courses) {
+                    statement.setString(1, course.id());
+                    statement.setString(2, course.name());
+                    statement.setLong(3, course.length());
+                    statement.setString(4, course.url());
+                    statement.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        statement.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    statement.executeBatch();
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                try {
+                    connection.rollback();
+                } catch (SQLException rollbackFailure) {
+                    e.addSuppressed(rollbackFailure);
+                }
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new RepositoryException("Failed to save " + courses.size() + " courses", e);
+        }
+    }
+
     @Override
     public Course findCourseById(String id) {
-        String query = "SELECT course.id, course.name, course.length, course.url FROM COURSES course WHERE course.id = ?";
-        try (Connection connection = dataSource.getConnection();
-             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+        try (ConnectionLease lease = lease()) {
+            PreparedStatement preparedStatement = lease.prepare(SELECT_COURSE_BY_ID);
             preparedStatement.setString(1, id);
-            ResultSet resultSet = preparedStatement.executeQuery();
-
-            if (resultSet.next()) {
-                return new Course(
-                        resultSet.getString("id"),
-                        resultSet.getString("name"),
-                        resultSet.getLong("length"),
-                        resultSet.getString("url"));
-            } else {
-                throw new CourseNotFoundException("No course found with id " + id);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (resultSet.next()) {
+                    return new Course(
+                            resultSet.getString("id"),
+                            resultSet.getString("name"),
+                            resultSet.getLong("length"),
+                            resultSet.getString("url"));
+                } else {
+                    throw new CourseNotFoundException("No course found with id " + id);
+                }
             }
         } catch (SQLException e) {
             throw new RepositoryException("Failed to find course with id " + id, e);
@@ -98,22 +195,59 @@ class CourseJdbcRepository implements CourseRepository {
 
     @Override
     public List<Course> findAllCourses() {
-        try (Connection connection = dataSource.getConnection();
-             Statement st = connection.createStatement()) {
-            String query = "SELECT course.id, course.name, course.length, course.url FROM COURSES course";
-            ResultSet resultSet = st.executeQuery(query);
+        try (ConnectionLease lease = lease();
+             ResultSet resultSet = lease.prepare(SELECT_ALL_COURSES).executeQuery()) {
             List<Course> courses = new ArrayList<>();
             while (resultSet.next()) {
-                Course course = new Course(
-                        resultSet.getString(1),
-                        resultSet.getString(2),
-                        resultSet.getLong(3),
-                        resultSet.getString(4));
-                courses.add(course);
+                courses.add(toCourse(resultSet));
             }
             return Collections.unmodifiableList(courses);
         } catch (SQLException e) {
             throw new RepositoryException("Failed to retrieve courses", e);
         }
     }
+
+    @Override
+    public List<Course> findCourses(String afterId, int limit) {
+        try (ConnectionLease lease = lease()) {
+            PreparedStatement statement;
+            if (afterId == null) {
+                statement = lease.prepare(SELECT_FIRST_PAGE);
+                statement.setInt(1, limit);
+            } else {
+                statement = lease.prepare(SELECT_PAGE_AFTER);
+                statement.setString(1, afterId);
+                statement.setInt(2, limit);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                List<Course> courses = new ArrayList<>(limit);
+                while (resultSet.next()) {
+                    courses.add(toCourse(resultSet));
+                }
+                return Collections.unmodifiableList(courses);
+            }
+        } catch (SQLException e) {
+            throw new RepositoryException("Failed to retrieve courses after id " + afterId, e);
+        }
+    }
+
+    private static Course toCourse(ResultSet resultSet) throws SQLException {
+        return new Course(
+                resultSet.getString(1),
+                resultSet.getString(2),
+                resultSet.getLong(3),
+                resultSet.getString(4));
+    }
+
+    @Override
+    public Optional<PoolMetrics> poolMetrics() {
+        return Optional.ofNullable(pool).map(CourseConnectionPool::metrics);
+    }
+
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.close();
+        }
+    }
 }
@@ -2,7 +2,10 @@ package code.with.vanilson.repository;
 
 import code.with.vanilson.domain.Course;
 
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * CourseRepository
@@ -11,16 +14,66 @@ import java.util.List;
  * @version 1.0
  * @since 2024-11-08
  */
-public interface CourseRepository {
+public interface CourseRepository extends AutoCloseable {
+    /**
+     * Pool size used by {@link #getInstance(String)} unless the
+     * {@code course-info.pool.size} system property says otherwise.
+     */
+    int DEFAULT_POOL_SIZE = 10;
+
     void saveCourse(Course course);
 
+    /**
+     * Saves many courses at once. Implementations backed by a database should do this in a
+     * single transaction; the default simply saves them one by one.
+     */
+    default void saveCourses(Collection<Course> courses) {
+        courses.forEach(this::saveCourse);
+    }
+
     Course findCourseById(String id);
 
     List<Course> findAllCourses();
 
+    /**
+     * Keyset pagination over the courses ordered by id.
+     *
+     * @param afterId the last id of the previous page, or {@code null} for the first page
+     * @param limit   the maximum number of courses to return
+     * @return at most {@code limit} courses whose id is greater than {@code afterId}
+     */
+    default List<Course> findCourses(String afterId, int limit) {
+        return findAllCourses().stream()
+                .filter(course -> afterId == null || course.id().compareTo(afterId) > 0)
+                .sorted(Comparator.comparing(Course::id))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * @return the connection pool statistics, or empty when the repository is not pooled
+     */
+    default Optional<PoolMetrics> poolMetrics() {
+        return Optional.empty();
+    }
+
+    /**
+     * Releases the pooled connections, if any. The repository must not be used afterwards.
+     */
+    @Override
+    default void close() {
+    }
+
+    /**
+     * Creates a repository backed by a bounded connection pool. The pool size is read from the
+     * {@code course-info.pool.size} system property; {@code 0} opens a new connection per call.
+     */
     static CourseRepository getInstance(String databaseFileName) {
-        return new CourseJdbcRepository(databaseFileName);
+        return getInstance(databaseFileName, Integer.getInteger("course-info.pool.size", DEFAULT_POOL_SIZE));
+    }
 
+    static CourseRepository getInstance(String databaseFileName, int poolSize) {
+        return new CourseJdbcRepository(databaseFileName, poolSize);
     }
 
 }
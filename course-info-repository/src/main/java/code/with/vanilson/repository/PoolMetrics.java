@@ -0,0 +1,33 @@
+package code.with.vanilson.repository;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PoolMetrics
+ * <p>
+ * Point-in-time snapshot of the connection pool used by the course repository.
+ *
+ * @param maxSize        the maximum number of physical connections the pool may hold
+ * @param active         the number of connections currently borrowed
+ * @param idle           the number of open connections waiting to be borrowed
+ * @param borrowCount    the total number of successful borrows since the pool was created
+ * @param totalWaitNanos the accumulated time callers spent waiting for a connection
+ * @param maxWaitNanos   the longest single wait observed
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record PoolMetrics(int maxSize,
+                          int active,
+                          int idle,
+                          long borrowCount,
+                          long totalWaitNanos,
+                          long maxWaitNanos) {
+
+    public double averageWaitMillis() {
+        if (borrowCount == 0) {
+            return 0;
+        }
+        return (double) totalWaitNanos / borrowCount / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
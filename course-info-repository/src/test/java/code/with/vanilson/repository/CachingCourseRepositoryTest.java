@@ -0,0 +1,91 @@
+package code.with.vanilson.repository;
+
+import code.with.vanilson.domain.Course;
+import code.with.vanilson.exception.CourseNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CachingCourseRepositoryTest {
+
+    private final CountingCourseRepository delegate = new CountingCourseRepository();
+    private final AtomicLong now = new AtomicLong();
+    private final CachingCourseRepository repository =
+            new CachingCourseRepository(delegate, 2, Duration.ofSeconds(10), now::get);
+
+    @Test
+    void repeatedLookupsAreServedFromCache() {
+        delegate.saveCourse(course("1", "Java"));
+
+        repository.findCourseById("1");
+        repository.findCourseById("1");
+        repository.findAllCourses();
+        repository.findAllCourses();
+
+        assertEquals(3, delegate.reads);
+        assertEquals(new CacheStats(1, 1, 1, 0), repository.stats());
+    }
+
+    @Test
+    void saveInvalidatesCachedCourse() {
+        repository.saveCourse(course("1", "Java"));
+        repository.findCourseById("1");
+
+        repository.saveCourse(course("1", "Java 21"));
+
+        assertEquals("Java 21", repository.findCourseById("1").name());
+        assertEquals("Java 21", repository.findAllCourses().get(0).name());
+        assertEquals(3, delegate.reads);
+    }
+
+    @Test
+    void leastRecentlyUsedAndExpiredEntriesAreEvicted() {
+        repository.saveCourses(List.of(course("1", "A"), course("2", "B"), course("3", "C")));
+        repository.findCourseById("1");
+        repository.findCourseById("2");
+        repository.findCourseById("1");
+        repository.findCourseById("3");
+        assertEquals(1, repository.stats().evictions());
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        repository.findCourseById("1");
+
+        assertEquals(2, repository.stats().evictions());
+        assertEquals(4, delegate.reads);
+    }
+
+    private static Course course(String id, String name) {
+        return new Course(id, name, 60, "https://app.pluralsight.com/" + id);
+    }
+
+    static class CountingCourseRepository implements CourseRepository {
+        private final List<Course> courses = new ArrayList<>();
+        private int reads;
+
+        @Override
+        public void saveCourse(Course course) {
+            courses.removeIf(existing -> existing.id().equals(course.id()));
+            courses.add(course);
+        }
+
+        @Override
+        public Course findCourseById(String id) {
+            reads++;
+            return courses.stream()
+                    .filter(course -> course.id().equals(id))
+                    .findFirst()
+                    .orElseThrow(() -> new CourseNotFoundException("Course with id " + id + " not found"));
+        }
+
+        @Override
+        public List<Course> findAllCourses() {
+            reads++;
+            return List.copyOf(courses);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package code.with.vanilson.repository;
+
+import code.with.vanilson.domain.Course;
+import code.with.vanilson.exception.CourseNotFoundException;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CourseJdbcRepositoryTest {
+
+    private JdbcDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+    }
+
+    @Test
+    void pooledRepositoryReusesConnections() {
+        var repository = new CourseJdbcRepository(dataSource, 2);
+        repository.saveCourse(new Course("1", "Java", 60, "https://app.pluralsight.com/1"));
+        repository.saveCourse(new Course("2", "Kafka", 90, "https://app.pluralsight.com/2"));
+
+        assertEquals("Kafka", repository.findCourseById("2").name());
+        assertEquals(2, repository.findAllCourses().size());
+
+        PoolMetrics metrics = repository.poolMetrics().orElseThrow();
+        assertEquals(0, metrics.active());
+        assertEquals(1, metrics.idle());
+        assertEquals(4, metrics.borrowCount());
+    }
+
+    @Test
+    void missingCourseReleasesConnection() {
+        var repository = new CourseJdbcRepository(dataSource, 1);
+
+        assertThrows(CourseNotFoundException.class, () -> repository.findCourseById("missing"));
+        assertEquals(0, repository.poolMetrics().orElseThrow().active());
+        assertEquals(List.of(), repository.findAllCourses());
+    }
+
+    @Test
+    void closeReleasesPooledConnections() {
+        var repository = new CourseJdbcRepository(dataSource, 2);
+        repository.saveCourse(new Course("1", "Java", 60, "https://app.pluralsight.com/1"));
+
+        repository.close();
+
+        assertEquals(0, repository.poolMetrics().orElseThrow().idle());
+        assertThrows(RepositoryException.class, () -> repository.findCourseById("1"));
+    }
+
+    @Test
+    void saveCoursesInBatches() {
+        var repository = new CourseJdbcRepository(dataSource, 1);
+        List<Course> courses = IntStream.rangeClosed(1, 1_234)
+                .mapToObj(i -> new Course(String.valueOf(i), "Course " + i, i, "https://app.pluralsight.com/" + i))
+                .toList();
+
+        repository.saveCourses(courses);
+
+        assertEquals(1_234, repository.findAllCourses().size());
+        assertEquals("Course 617", repository.findCourseById("617").name());
+        assertEquals(1, repository.poolMetrics().orElseThrow().idle());
+    }
+
+    @Test
+    void failedSaveLeavesNothingBehindOnThePooledConnection() {
+        var repository = new CourseJdbcRepository(dataSource, 1);
+        List<Course> courses = List.of(
+                new Course("1", "Java", 60, "https://app.pluralsight.com/1"),
+                new Course("2", "Too long", Long.MAX_VALUE, "https://app.pluralsight.com/2"));
+
+        assertThrows(RepositoryException.class, () -> repository.saveCourses(courses));
+        repository.saveCourses(List.of(new Course("3", "Kafka", 90, "https://app.pluralsight.com/3")));
+
+        assertEquals(List.of("3"), repository.findAllCourses().stream().map(Course::id).toList());
+        assertEquals(1, repository.poolMetrics().orElseThrow().idle());
+    }
+
+    @Test
+    void findCoursesPagesByKeyset() {
+        var repository = new CourseJdbcRepository(dataSource, 1);
+        repository.saveCourses(List.of(
+                new Course("c", "C", 3, "https://app.pluralsight.com/c"),
+                new Course("a", "A", 1, "https://app.pluralsight.com/a"),
+                new Course("b", "B", 2, "https://app.pluralsight.com/b")));
+
+        assertEquals(List.of("a", "b"), repository.findCourses(null, 2).stream().map(Course::id).toList());
+        assertEquals(List.of("c"), repository.findCourses("b", 2).stream().map(Course::id).toList());
+    }
+
+    @Test
+    void unpooledRepositoryHasNoMetrics() {
+        var repository = new CourseJdbcRepository(dataSource, 0);
+        repository.saveCourse(new Course("1", "Java", 60, "https://app.pluralsight.com/1"));
+
+        assertEquals(1, repository.findAllCourses().size());
+        assertTrue(repository.poolMetrics().isEmpty());
+    }
+}
@@ -1,15 +1,21 @@
 package com.with.vanilson.server;
 
 import code.with.vanilson.domain.Course;
-import code.with.vanilson.exception.CourseNotFoundException;
 import code.with.vanilson.repository.CourseRepository;
 import code.with.vanilson.repository.RepositoryException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.with.vanilson.server.exception.CourseNotFoundException;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import jakarta.ws.rs.core.UriInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Comparator;
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -22,11 +28,14 @@ import java.util.List;
 
 /**
  * The CourseResource class provides RESTful endpoints for managing courses.
- * It allows clients to retrieve a list of all courses or a specific course by its ID.
+ * It allows clients to page through or stream all courses, or retrieve a specific course by its ID.
  */
 @Path("/courses")
 public class CourseResource {
     private static final Logger log = LoggerFactory.getLogger(CourseResource.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    static final int MAX_PAGE_SIZE = 1_000;
+
     private final CourseRepository courseRepository;
 
     /**
@@ -39,21 +48,43 @@ public class CourseResource {
     }
 
     /**
-     * Retrieves a list of all courses.
+     * Retrieves courses ordered by id.
+     * <p>
+     * With a {@code limit} the result is a keyset-paginated page: pass the id of the last course
+     * of a page as {@code after} to get the next one, as advertised by the {@code Link} header.
+     * Without a {@code limit} every course is streamed as a JSON array. The catalogue is read in
+     * pages of {@value #MAX_PAGE_SIZE}, and a database connection is held only while a page is
+     * read, never while it is written to a slow client.
      *
-     * @return A list of Course objects in JSON format.
-     * @throws NotFoundException if there is an error retrieving courses from the database.
+     * @param after the id after which the page starts, or {@code null} for the first page.
+     * @param limit the page size, capped at {@value #MAX_PAGE_SIZE}; {@code 0} streams all courses.
+     * @param uriInfo the request URI, used to build the link to the next page.
+     * @return One page of courses, or a JSON array of all courses streamed page by page.
+     * @throws NotFoundException if the first page cannot be read from the database. A failure on a
+     *                           later page of a stream aborts the response, since its status is already sent.
      */
-
     @GET
     @Produces(MediaType.APPLICATION_JSON)
-    public List<Course> getCourse() {
+    public Response getCourse(@QueryParam("after") String after,
+                              @QueryParam("limit") @DefaultValue("0") int limit,
+                              @Context UriInfo uriInfo) {
+        if (limit < 0) {
+            throw new BadRequestException("limit must not be negative");
+        }
         try {
-            return courseRepository
-                    .findAllCourses()
-                    .stream()
-                    .sorted(Comparator.comparing(Course::id))
-                    .toList();
+            if (limit == 0) {
+                // read before the response is committed, so a database failure can still become a 404
+                return Response.ok(streamCourses(courseRepository.findCourses(after, MAX_PAGE_SIZE))).build();
+            }
+            List<Course> page = courseRepository.findCourses(after, Math.min(limit, MAX_PAGE_SIZE));
+            Response.ResponseBuilder response = Response.ok(page);
+            if (page.size() == Math.min(limit, MAX_PAGE_SIZE)) {
+                String lastId = page.get(page.size() - 1).id();
+                response.link(uriInfo.getRequestUriBuilder()
+                        .replaceQueryParam("after", lastId)
+                        .build(), "next");
+            }
+            return response.build();
         } catch (RepositoryException e) {
             log.error("Could not retrieve courses from the database {}", e.getMessage());
             throw new NotFoundException();
@@ -61,27 +92,46 @@ public class CourseResource {
 
     }
 
+    private StreamingOutput streamCourses(List<Course> firstPage) {
+        return output -> {
+            try (JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(output)) {
+                // a stream aborted half way must not be closed into a valid but incomplete array
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+                generator.writeStartArray();
+                List<Course> page = firstPage;
+                while (true) {
+                    for (Course course : page) {
+                        generator.writeObject(course);
+                    }
+                    if (page.size() < MAX_PAGE_SIZE) {
+                        break;
+                    }
+                    page = courseRepository.findCourses(page.get(page.size() - 1).id(), MAX_PAGE_SIZE);
+                }
+                generator.writeEndArray();
+            } catch (RepositoryException e) {
+                log.error("Could not stream courses from the database {}", e.getMessage());
+                throw new IOException("Course stream aborted", e);
+            }
+        };
+    }
+
     /**
-     * Retrieves a specific course by its ID.
+     * Retrieves a specific course by its ID using a primary-key lookup.
      *
      * @param id The ID of the course to retrieve.
      * @return The Course object with the specified ID in JSON format.
-     * @throws CourseNotFoundException if no course is found with the specified ID.
-     * @throws NotFoundException       if there is an error retrieving the course from the database.
+     * @throws CourseNotFoundException if no course is found with the specified ID,
+     *                                 or if there is an error retrieving the course from the database.
      */
     @GET
     @Path("/{id}") // Path for getting a course by ID
     @Produces(MediaType.APPLICATION_JSON)
     public Course getCourseById(@PathParam("id") String id) {
         try {
-            return courseRepository
-                    .findAllCourses()
-                    .stream()
-                    .filter(c -> id.equals(c.id()))
-                    .findAny()
-                    .orElseThrow(() -> new CourseNotFoundException(
-                            "Course not found with id: " + id)); // Throw custom exception
-
+            return courseRepository.findCourseById(id);
+        } catch (code.with.vanilson.exception.CourseNotFoundException e) {
+            throw new CourseNotFoundException("Course not found with id: " + id); // Throw custom exception
         } catch (RepositoryException e) {
             log.error("Could not retrieve course from the database by id: {} {}", id, e.getMessage());
             throw new CourseNotFoundException("Could not retrieve course with id: " + id); // Throw custom exception
@@ -1,6 +1,11 @@
 package com.with.vanilson.server;
 
+import code.with.vanilson.repository.CachingCourseRepository;
 import code.with.vanilson.repository.CourseRepository;
+import org.glassfish.grizzly.http.server.HttpServer;
+import org.glassfish.grizzly.http.server.NetworkListener;
+import org.glassfish.grizzly.nio.transport.TCPNIOTransport;
+import org.glassfish.grizzly.threadpool.ThreadPoolConfig;
 import org.glassfish.jersey.grizzly2.httpserver.GrizzlyHttpServerFactory;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.slf4j.Logger;
@@ -9,7 +14,10 @@ import org.slf4j.bridge.SLF4JBridgeHandler;
 
 import java.io.IOException;
 import java.net.URI;
+import java.time.Duration;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.LogManager;
 
 /**
@@ -40,36 +48,156 @@ public class CourseServer {
 
     private static final Logger log = LoggerFactory.getLogger(CourseServer.class);
     private static final String BASE_URI = "http://localhost:8081/";
+    private static final String VIRTUAL_THREAD_EXECUTOR = "newVirtualThreadPerTaskExecutor";
 
     /**
      * The main method serves as the entry point for the Course Server application.
      * It loads the database filename from the properties file, initializes the
-     * course repository, and starts the HTTP server.
+     * course repository (optionally behind a cache), and starts the HTTP server.
      *
      * @param args Command-line arguments (not used).
      */
 
     public static void main(String... args) {
-        String databaseFilename = loadDatabaseFilename();
+        Properties properties = loadServerProperties();
+        String databaseFilename = properties.getProperty("course-info.database");
+        if (databaseFilename == null) {
+            throw new IllegalStateException("Could not load database filename");
+        }
         log.info("Starting Course Server with database {}", databaseFilename);
-        CourseRepository courseRepository = CourseRepository.getInstance(databaseFilename);
+        CourseRepository courseRepository = withCache(CourseRepository.getInstance(databaseFilename), properties);
+
+        try {
+            HttpServer server = startServer(URI.create(BASE_URI), courseRepository, properties);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                shutdown(server);
+                courseRepository.close();
+            }));
+        } catch (IOException e) {
+            courseRepository.close();
+            log.error("Could not start the server ", e);
+            throw new IllegalStateException("Could not start the server on " + BASE_URI, e);
+        }
+    }
+
+    /**
+     * Creates the Grizzly server for the course resource, applies the worker and selector
+     * settings from the server properties and starts it.
+     * <p>
+     * {@code course-info.server.worker-mode=virtual} runs every request on its own virtual thread,
+     * so blocking JDBC calls no longer cap concurrency at the worker pool size. Virtual threads
+     * need Java 21; on older runtimes the server logs a warning and keeps the platform pool.
+     *
+     * @param uri              The base URI to listen on.
+     * @param courseRepository The repository used to serve courses.
+     * @param properties       The server properties.
+     * @return The started server.
+     * @throws IOException if the server cannot bind to the URI.
+     */
+    static HttpServer startServer(URI uri, CourseRepository courseRepository, Properties properties)
+            throws IOException {
         ResourceConfig resourceConfig = new ResourceConfig().register(new CourseResource(courseRepository));
+        HttpServer server = GrizzlyHttpServerFactory.createHttpServer(uri, resourceConfig, false);
+
+        int selectors = Integer.parseInt(properties.getProperty("course-info.server.selector-threads",
+                Integer.toString(Runtime.getRuntime().availableProcessors())));
+        int workers = Integer.parseInt(properties.getProperty("course-info.server.worker-threads", "64"));
+        boolean virtual = "virtual".equalsIgnoreCase(properties.getProperty("course-info.server.worker-mode"));
+        ExecutorService virtualThreads = virtual ? virtualThreadExecutor() : null;
+
+        for (NetworkListener listener : server.getListeners()) {
+            TCPNIOTransport transport = listener.getTransport();
+            transport.setSelectorRunnersCount(selectors);
+            if (virtualThreads != null) {
+                transport.setWorkerThreadPool(virtualThreads);
+            } else {
+                transport.setWorkerThreadPoolConfig(ThreadPoolConfig.defaultConfig()
+                        .setPoolName("course-server-worker")
+                        .setCorePoolSize(workers)
+                        .setMaxPoolSize(workers));
+            }
+        }
+        server.start();
+        log.info("Course Server listening on {} with {} selector(s) and {} workers", uri, selectors,
+                virtualThreads != null ? "virtual-thread" : Integer.toString(workers));
+        return server;
+    }
 
-        GrizzlyHttpServerFactory.createHttpServer(URI.create(BASE_URI), resourceConfig);
+    /**
+     * Stops the server and its worker threads. Grizzly only shuts down worker pools it created
+     * itself, so the virtual-thread executor handed to the transports is shut down here.
+     *
+     * @param server The server returned by {@link #startServer(URI, CourseRepository, Properties)}.
+     */
+    static void shutdown(HttpServer server) {
+        server.shutdownNow();
+        for (NetworkListener listener : server.getListeners()) {
+            ExecutorService workers = listener.getTransport().getWorkerThreadPool();
+            if (workers != null) {
+                workers.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Looks up {@code Executors.newVirtualThreadPerTaskExecutor()} reflectively, so the server
+     * still compiles and runs on Java 17.
+     *
+     * @return A virtual-thread-per-task executor, or {@code null} if the runtime has none.
+     */
+    private static ExecutorService virtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod(VIRTUAL_THREAD_EXECUTOR).invoke(null);
+        } catch (ReflectiveOperationException e) {
+            log.warn("Virtual threads need Java 21 or later, running on {}; using platform worker threads",
+                    Runtime.version());
+            return null;
+        }
+    }
+
+    /**
+     * @return whether {@code course-info.server.worker-mode=virtual} gets virtual threads on this runtime
+     */
+    static boolean supportsVirtualThreads() {
+        try {
+            Executors.class.getMethod(VIRTUAL_THREAD_EXECUTOR);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Puts a read-through cache in front of the repository when
+     * {@code course-info.cache.enabled} is set in the server properties. Writes made by other
+     * processes, such as the CLI, do not invalidate it, so cached courses may be stale for up to
+     * the configured time to live.
+     *
+     * @param courseRepository The repository backed by the database.
+     * @param properties       The server properties.
+     * @return The cached repository, or {@code courseRepository} when caching is disabled.
+     */
+    private static CourseRepository withCache(CourseRepository courseRepository, Properties properties) {
+        if (!Boolean.parseBoolean(properties.getProperty("course-info.cache.enabled", "false"))) {
+            return courseRepository;
+        }
+        int maxSize = Integer.parseInt(properties.getProperty("course-info.cache.max-size", "10000"));
+        Duration ttl = Duration.ofSeconds(Long.parseLong(properties.getProperty("course-info.cache.ttl-seconds", "300")));
+        log.info("Caching up to {} courses for {}", maxSize, ttl);
+        return new CachingCourseRepository(courseRepository, maxSize, ttl);
     }
 
     /**
-     * Loads the database filename from the server properties file.
+     * Loads the server properties file.
      *
-     * @return The database filename as a String.
-     * @throws IllegalStateException if the properties file cannot be loaded,
-     *                               or if the database filename is not found in the properties.
+     * @return The server properties.
+     * @throws IllegalStateException if the properties file cannot be loaded.
      */
-    private static String loadDatabaseFilename() {
+    private static Properties loadServerProperties() {
         try (var propertiesStream = CourseServer.class.getResourceAsStream("/server.properties")) {
             var properties = new Properties();
             properties.load(propertiesStream);
-            return properties.getProperty("course-info.database");
+            return properties;
         } catch (IOException e) {
             log.error("Could not load from file ", e);
             throw new IllegalStateException("Could not load database filename");
@@ -0,0 +1,94 @@
+package com.with.vanilson.server;
+
+import code.with.vanilson.domain.Course;
+import code.with.vanilson.repository.CourseRepository;
+import code.with.vanilson.repository.RepositoryException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CourseResourceTest {
+
+    @Test
+    void streamsEveryCourseInPages() throws IOException {
+        PagedCourseRepository repository = new PagedCourseRepository(CourseResource.MAX_PAGE_SIZE * 2 + 5);
+        StreamingOutput stream = (StreamingOutput) new CourseResource(repository).getCourse(null, 0, null).getEntity();
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        stream.write(output);
+
+        JsonNode courses = new ObjectMapper().readTree(output.toByteArray());
+        assertEquals(CourseResource.MAX_PAGE_SIZE * 2 + 5, courses.size());
+        assertEquals(List.of("null", id(CourseResource.MAX_PAGE_SIZE - 1), id(CourseResource.MAX_PAGE_SIZE * 2 - 1)),
+                repository.pageStarts);
+    }
+
+    @Test
+    void failingFirstPageIsNotFoundBeforeTheResponseStarts() {
+        PagedCourseRepository repository = new PagedCourseRepository(10);
+        repository.failing = true;
+
+        assertThrows(NotFoundException.class, () -> new CourseResource(repository).getCourse(null, 0, null));
+    }
+
+    @Test
+    void failingLaterPageAbortsTheStream() {
+        PagedCourseRepository repository = new PagedCourseRepository(CourseResource.MAX_PAGE_SIZE + 1);
+        StreamingOutput stream = (StreamingOutput) new CourseResource(repository).getCourse(null, 0, null).getEntity();
+        repository.failing = true;
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        assertThrows(IOException.class, () -> stream.write(output));
+        assertThrows(IOException.class, () -> new ObjectMapper().readTree(output.toByteArray()));
+    }
+
+    private static String id(int i) {
+        return "%06d".formatted(i);
+    }
+
+    static class PagedCourseRepository implements CourseRepository {
+        private final List<Course> courses;
+        private final List<String> pageStarts = new ArrayList<>();
+        private boolean failing;
+
+        PagedCourseRepository(int size) {
+            courses = IntStream.range(0, size)
+                    .mapToObj(i -> new Course(id(i), "Course " + i, 60, "https://app.pluralsight.com/" + i))
+                    .toList();
+        }
+
+        @Override
+        public void saveCourse(Course course) {
+        }
+
+        @Override
+        public Course findCourseById(String id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Course> findAllCourses() {
+            return courses;
+        }
+
+        @Override
+        public List<Course> findCourses(String afterId, int limit) {
+            if (failing) {
+                throw new RepositoryException("database unavailable", null);
+            }
+            pageStarts.add(String.valueOf(afterId));
+            return CourseRepository.super.findCourses(afterId, limit);
+        }
+    }
+}
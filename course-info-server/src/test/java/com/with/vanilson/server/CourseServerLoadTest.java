@@ -0,0 +1,125 @@
+package com.with.vanilson.server;
+
+import code.with.vanilson.domain.Course;
+import code.with.vanilson.repository.CourseRepository;
+import org.glassfish.grizzly.http.server.HttpServer;
+import org.glassfish.grizzly.nio.transport.TCPNIOTransport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Fires concurrent requests at the server with a repository that blocks for a few milliseconds
+ * per call, the way the JDBC repository does: 200 on a small platform worker pool, and 1,000 on
+ * virtual threads. The virtual-thread run is skipped on runtimes without virtual threads.
+ */
+class CourseServerLoadTest {
+    private static final Logger log = LoggerFactory.getLogger(CourseServerLoadTest.class);
+    private static final int CONCURRENT_REQUESTS = 1_000;
+
+    private HttpServer server;
+    private URI baseUri;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            CourseServer.shutdown(server);
+        }
+    }
+
+    @Test
+    void appliesThePlatformWorkerAndSelectorCounts() throws IOException {
+        start("platform", 8, 2);
+
+        TCPNIOTransport transport = server.getListener("grizzly").getTransport();
+        assertEquals(2, transport.getSelectorRunnersCount());
+        assertEquals(8, transport.getWorkerThreadPoolConfig().getMaxPoolSize());
+        assertEquals(200, fire(200));
+    }
+
+    @Test
+    void servesThousandConcurrentConnections() throws IOException {
+        assumeTrue(CourseServer.supportsVirtualThreads(), "virtual threads need Java 21, running on " + Runtime.version());
+        start("virtual", 64, 2);
+
+        long succeeded = fire(CONCURRENT_REQUESTS);
+
+        assertEquals(CONCURRENT_REQUESTS, succeeded, "Only " + succeeded + " requests succeeded");
+        CourseServer.shutdown(server);
+        assertTrue(server.getListener("grizzly").getTransport().getWorkerThreadPool().isShutdown());
+        server = null;
+    }
+
+    private void start(String workerMode, int workers, int selectors) throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        baseUri = URI.create("http://localhost:" + port + "/");
+
+        Properties properties = new Properties();
+        properties.setProperty("course-info.server.worker-mode", workerMode);
+        properties.setProperty("course-info.server.worker-threads", Integer.toString(workers));
+        properties.setProperty("course-info.server.selector-threads", Integer.toString(selectors));
+        server = CourseServer.startServer(baseUri, new SlowCourseRepository(), properties);
+    }
+
+    private long fire(int requests) {
+        HttpClient client = HttpClient.newHttpClient();
+        long start = System.nanoTime();
+
+        List<CompletableFuture<HttpResponse<String>>> responses = IntStream.range(0, requests)
+                .mapToObj(i -> client.sendAsync(
+                        HttpRequest.newBuilder(baseUri.resolve("courses/" + i)).GET().build(),
+                        HttpResponse.BodyHandlers.ofString()))
+                .toList();
+        long succeeded = responses.stream()
+                .map(CompletableFuture::join)
+                .filter(response -> response.statusCode() == 200)
+                .count();
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        log.info("{} requests in {} s ({} req/s)", succeeded, "%.2f".formatted(seconds),
+                "%.0f".formatted(succeeded / seconds));
+        return succeeded;
+    }
+
+    static class SlowCourseRepository implements CourseRepository {
+
+        @Override
+        public void saveCourse(Course course) {
+            // the load test only reads
+        }
+
+        @Override
+        public Course findCourseById(String id) {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new Course(id, "Course " + id, 60, "https://app.pluralsight.com/" + id);
+        }
+
+        @Override
+        public List<Course> findAllCourses() {
+            return List.of();
+        }
+    }
+}
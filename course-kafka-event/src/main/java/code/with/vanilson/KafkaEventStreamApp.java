@@ -1,13 +1,86 @@
 package code.with.vanilson;
 
+import code.with.vanilson.config.ConsumerConfig;
+import code.with.vanilson.config.ProducerConfig;
+import code.with.vanilson.config.ProducerProfile;
 import code.with.vanilson.event.KafkaEventProducer;
+import code.with.vanilson.event.ProductEventConsumer;
+import code.with.vanilson.load.LoadGenerator;
+import code.with.vanilson.load.LoadSettings;
+import code.with.vanilson.metrics.ThroughputMetrics;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Properties;
+
+import static code.with.vanilson.util.PropertyUtil.TOPIC;
 
 /**
  * Hello world!
  */
 public class KafkaEventStreamApp {
+    private static final Logger log = LoggerFactory.getLogger(KafkaEventStreamApp.class);
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
     public static void main(String[] args) {
+        if (args.length > 0 && "consume".equals(args[0])) {
+            consume();
+            return;
+        }
+        if (args.length > 0 && "load".equals(args[0])) {
+            load(args);
+            return;
+        }
         //Product sent a message
         KafkaEventProducer.sendMessge();
     }
+
+    private static void consume() {
+        ProductEventConsumer consumer = new ProductEventConsumer(
+                new KafkaConsumer<>(ConsumerConfig.getKafkaProperties()), TOPIC,
+                (partition, records) -> log.info("Received {} records from {}", records.size(), partition),
+                Runtime.getRuntime().availableProcessors(), Duration.ofMillis(500));
+        Thread pollThread = Thread.currentThread();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            consumer.shutdown();
+            try {
+                // let the poll loop commit and close the consumer before the JVM exits
+                pollThread.join(SHUTDOWN_TIMEOUT.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        consumer.run();
+    }
+
+    /**
+     * Runs the load generator, e.g. {@code load messages=100000 rate=5000 threads=4 keys=1000}.
+     * {@code profile=high-throughput} selects a {@link ProducerProfile} and arguments prefixed with
+     * {@code producer.} override the producer configuration, e.g. {@code producer.linger.ms=20}.
+     */
+    private static void load(String[] args) {
+        Properties options = new Properties();
+        for (int i = 1; i < args.length; i++) {
+            int separator = args[i].indexOf('=');
+            if (separator < 1) {
+                throw new IllegalArgumentException("Expected name=value but was " + args[i]);
+            }
+            options.setProperty(args[i].substring(0, separator), args[i].substring(separator + 1));
+        }
+        LoadSettings settings = LoadSettings.from(options);
+        Properties overrides = new Properties();
+        options.stringPropertyNames().stream()
+                .filter(name -> name.startsWith("producer."))
+                .forEach(name -> overrides.setProperty(name.substring("producer.".length()), options.getProperty(name)));
+        Properties producerProperties = options.containsKey("profile")
+                ? ProducerConfig.getKafkaProperties(settings.wireFormat(), ProducerProfile.of(options.getProperty("profile")), overrides)
+                : ProducerConfig.getKafkaProperties(settings.wireFormat(), overrides);
+
+        log.info("Starting load run {} with producer settings {}", settings, producerProperties);
+        ThroughputMetrics metrics = new LoadGenerator(settings).run(new KafkaProducer<>(producerProperties), TOPIC);
+        log.info("Load run result: {}", metrics);
+    }
 }
@@ -0,0 +1,43 @@
+package code.with.vanilson.config;
+
+import code.with.vanilson.mapper.ProductWireFormat;
+import org.apache.kafka.common.serialization.StringDeserializer;
+
+import java.util.Properties;
+
+import static code.with.vanilson.util.PropertyUtil.*;
+
+/**
+ * ConsumerConfig
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class ConsumerConfig {
+
+    private ConsumerConfig() {
+        throw new AssertionError("This class cannot be instantiated");
+    }
+
+    public static Properties getKafkaProperties() {
+        return getKafkaProperties(ProductWireFormat.JSON);
+    }
+
+    /**
+     * Offsets are committed by the consumer after each processed batch, so auto-commit is off.
+     *
+     * @param wireFormat the encoding of the product lists received as record values
+     */
+    public static Properties getKafkaProperties(ProductWireFormat wireFormat) {
+        Properties props = new Properties();
+        props.setProperty(BOOTSTRAP_SERVERS, bootstrapServers());
+        props.setProperty(GROUP_ID, CONSUMER_GROUP);
+        props.setProperty(AUTO_OFFSET_RESET, "earliest");
+        props.setProperty(ENABLE_AUTO_COMMIT, "false");
+        props.setProperty(MAX_POLL_RECORDS, "500");
+        props.setProperty(CONSUMER_KEY_DESERIALIZER, StringDeserializer.class.getName());
+        props.setProperty(CONSUMER_VALUE_DESERIALIZER, wireFormat.deserializer().getName());
+        return props;
+    }
+}
@@ -1,36 +1,134 @@
 package code.with.vanilson.config;
 
-import code.with.vanilson.mapper.ListProducerSerializer;
+import code.with.vanilson.mapper.ProductWireFormat;
+import org.apache.kafka.common.config.ConfigException;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 
 import static code.with.vanilson.util.PropertyUtil.*;
 
 /**
  * ProducerConfig
+ * <p>
+ * Producer settings are layered: the common settings, then a {@link ProducerProfile}, then the
+ * properties file named by {@code kafka.producer.config} / {@code KAFKA_PRODUCER_CONFIG}, then
+ * {@code KAFKA_PRODUCER_*} environment variables (e.g. {@code KAFKA_PRODUCER_LINGER_MS}) and finally
+ * {@code kafka.producer.*} system properties. The profile is chosen with
+ * {@code kafka.producer.profile} / {@code KAFKA_PRODUCER_PROFILE} and defaults to {@code durable}.
+ * The result is validated against the Kafka producer config definition, so a misspelled key
+ * fails at startup instead of being silently ignored.
  *
  * @author vamuhong
  * @version 1.0
  * @since 2025-02-22
  */
 public class ProducerConfig {
+    private static final Logger log = LoggerFactory.getLogger(ProducerConfig.class);
+
+    public static final String PROFILE_PROPERTY = "kafka.producer.profile";
+    public static final String CONFIG_FILE_PROPERTY = "kafka.producer.config";
+    private static final String SYSTEM_PREFIX = "kafka.producer.";
+    private static final String ENV_PREFIX = "KAFKA_PRODUCER_";
+    private static final Set<String> ENV_RESERVED = Set.of("KAFKA_PRODUCER_PROFILE", "KAFKA_PRODUCER_CONFIG");
 
     private ProducerConfig() {
         throw new AssertionError("This class cannot be instantiated");
     }
 
     public static Properties getKafkaProperties() {
+        return getKafkaProperties(ProductWireFormat.JSON);
+    }
+
+    /**
+     * @param wireFormat the encoding of the product lists sent as record values
+     */
+    public static Properties getKafkaProperties(ProductWireFormat wireFormat) {
+        return resolve(wireFormat, System.getenv(), System.getProperties(), new Properties());
+    }
+
+    /**
+     * Resolves the profile and overrides from the environment and applies {@code overrides} last.
+     *
+     * @param overrides producer settings that take precedence over everything else
+     */
+    public static Properties getKafkaProperties(ProductWireFormat wireFormat, Properties overrides) {
+        return resolve(wireFormat, System.getenv(), System.getProperties(), overrides);
+    }
+
+    /**
+     * @param profile   the tuning to apply on top of the common settings
+     * @param overrides producer settings that take precedence over the profile
+     * @throws ConfigException if a key is not a producer config or a value is invalid
+     */
+    public static Properties getKafkaProperties(ProductWireFormat wireFormat, ProducerProfile profile, Properties overrides) {
         Properties props = new Properties();
-        props.setProperty(BOOTSTRAP_SERVERS, HOSTNAME);
+        props.setProperty(BOOTSTRAP_SERVERS, bootstrapServers());
         props.setProperty(ACKS, "all");
         props.setProperty(RETRIES, Integer.toString(Integer.MAX_VALUE));
         props.setProperty(PRODUCER_KEY_SERIALIZER, StringSerializer.class.getName());
-        props.setProperty(PRODUCER_VALUE_SERIALIZER, ListProducerSerializer.class.getName());
-        props.setProperty("linger.ms.config", "3");
-        props.setProperty("compression.type", "snappy");
-        props.setProperty("batch.size", Integer.toString(32 * 1024));
+        props.setProperty(PRODUCER_VALUE_SERIALIZER, wireFormat.serializer().getName());
+        props.putAll(profile.settings());
+        props.putAll(overrides);
+        validate(props);
         return props;
     }
 
-}
\ No newline at end of file
+    static Properties resolve(ProductWireFormat wireFormat, Map<String, String> env, Properties system, Properties overrides) {
+        ProducerProfile profile = ProducerProfile.of(system.getProperty(PROFILE_PROPERTY,
+                env.getOrDefault("KAFKA_PRODUCER_PROFILE", ProducerProfile.DURABLE.profileName())));
+
+        Properties layered = new Properties();
+        String file = system.getProperty(CONFIG_FILE_PROPERTY, env.get("KAFKA_PRODUCER_CONFIG"));
+        if (file != null && !file.isBlank()) {
+            layered.putAll(load(Path.of(file)));
+        }
+        env.forEach((name, value) -> {
+            if (name.startsWith(ENV_PREFIX) && !ENV_RESERVED.contains(name)) {
+                layered.setProperty(name.substring(ENV_PREFIX.length()).toLowerCase(Locale.ROOT).replace('_', '.'), value);
+            }
+        });
+        system.stringPropertyNames().stream()
+                .filter(name -> name.startsWith(SYSTEM_PREFIX))
+                .filter(name -> !name.equals(PROFILE_PROPERTY) && !name.equals(CONFIG_FILE_PROPERTY))
+                .forEach(name -> layered.setProperty(name.substring(SYSTEM_PREFIX.length()), system.getProperty(name)));
+        layered.putAll(overrides);
+
+        Properties props = getKafkaProperties(wireFormat, profile, layered);
+        log.info("Using producer profile {} with overrides {}", profile.profileName(), layered);
+        return props;
+    }
+
+    private static Properties load(Path file) {
+        Properties props = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            props.load(in);
+        } catch (IOException e) {
+            throw new ConfigException("Cannot read producer config file " + file + ": " + e.getMessage());
+        }
+        return props;
+    }
+
+    /**
+     * Rejects keys the producer does not know and lets Kafka parse the values, which also
+     * catches conflicting settings such as idempotence without {@code acks=all}.
+     */
+    static void validate(Properties props) {
+        Set<String> known = org.apache.kafka.clients.producer.ProducerConfig.configNames();
+        for (String name : props.stringPropertyNames()) {
+            if (!known.contains(name)) {
+                throw new ConfigException(name, props.getProperty(name), "Unknown producer config");
+            }
+        }
+        new org.apache.kafka.clients.producer.ProducerConfig(props);
+    }
+}
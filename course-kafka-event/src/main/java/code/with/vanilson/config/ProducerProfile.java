@@ -0,0 +1,63 @@
+package code.with.vanilson.config;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * ProducerProfile
+ * <p>
+ * Named producer tunings. {@code LOW_LATENCY} sends every record as soon as possible,
+ * {@code HIGH_THROUGHPUT} waits for large compressed batches and {@code DURABLE} trades some of
+ * both for idempotent, fully replicated writes.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public enum ProducerProfile {
+    LOW_LATENCY("low-latency", Map.of(
+            "acks", "1",
+            "linger.ms", "0",
+            "batch.size", Integer.toString(16 * 1024),
+            "compression.type", "none")),
+    HIGH_THROUGHPUT("high-throughput", Map.of(
+            "acks", "1",
+            "linger.ms", "20",
+            "batch.size", Integer.toString(256 * 1024),
+            "compression.type", "lz4",
+            "buffer.memory", Long.toString(128L * 1024 * 1024))),
+    DURABLE("durable", Map.of(
+            "acks", "all",
+            "enable.idempotence", "true",
+            "max.in.flight.requests.per.connection", "5",
+            "linger.ms", "5",
+            "batch.size", Integer.toString(32 * 1024),
+            "compression.type", "snappy"));
+
+    private final String profileName;
+    private final Map<String, String> settings;
+
+    ProducerProfile(String profileName, Map<String, String> settings) {
+        this.profileName = profileName;
+        this.settings = settings;
+    }
+
+    public String profileName() {
+        return profileName;
+    }
+
+    /**
+     * @return the producer settings of this profile, keyed by Kafka config name
+     */
+    public Map<String, String> settings() {
+        return settings;
+    }
+
+    public static ProducerProfile of(String name) {
+        return Arrays.stream(values())
+                .filter(profile -> profile.profileName.equalsIgnoreCase(name) || profile.name().equalsIgnoreCase(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown producer profile " + name
+                        + ", expected one of " + Arrays.stream(values()).map(ProducerProfile::profileName).toList()));
+    }
+}
@@ -3,7 +3,6 @@ package code.with.vanilson.event;
 import code.with.vanilson.config.ProducerConfig;
 import code.with.vanilson.producer.Product;
 import org.apache.kafka.clients.producer.KafkaProducer;
-import org.apache.kafka.clients.producer.ProducerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -22,6 +21,7 @@ import static code.with.vanilson.util.PropertyUtil.TOPIC;
  */
 public class KafkaEventProducer {
     private static final Logger log = LoggerFactory.getLogger(KafkaEventProducer.class);
+    private static final int MAX_IN_FLIGHT = 1_000;
 
     private KafkaEventProducer() {
         throw new AssertionError("This class cannot be instantiated");
@@ -29,13 +29,13 @@ public class KafkaEventProducer {
 
     public static void sendMessge() {
         Properties props = ProducerConfig.getKafkaProperties();
-        for (int j = 0; j < 2; j++) {
-            for (int i = 0; i < 10; i++) {
-                String key = "truck_id " + i;
-                List<Product> value = getProducts();
-                try (KafkaProducer<String, List<Product>> producer = new KafkaProducer<>(props)) {
-                    ProducerRecord<String, List<Product>> record = new ProducerRecord<>(TOPIC, key, value );
-                    producer.send(record, (metadata, exception) -> {
+        try (ProductEventPublisher publisher =
+                     new ProductEventPublisher(new KafkaProducer<>(props), TOPIC, MAX_IN_FLIGHT)) {
+            for (int j = 0; j < 2; j++) {
+                for (int i = 0; i < 10; i++) {
+                    String key = "truck_id " + i;
+                    List<Product> value = getProducts();
+                    publisher.send(key, value).whenComplete((metadata, exception) -> {
                         if (exception != null) {
                             log.error("Error sending record", exception);
                         } else {
@@ -46,11 +46,6 @@ public class KafkaEventProducer {
 
                         }
                     });
-                    Thread.sleep(500);
-                    producer.flush();
-                } catch (InterruptedException e) {
-                    log.error("Thread exception error ", e);
-                    Thread.currentThread().interrupt();
                 }
             }
         }
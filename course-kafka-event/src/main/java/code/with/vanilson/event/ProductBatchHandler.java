@@ -0,0 +1,24 @@
+package code.with.vanilson.event;
+
+import code.with.vanilson.producer.Product;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.List;
+
+/**
+ * ProductBatchHandler
+ * <p>
+ * Processes the records one poll returned for one partition. Batches of different partitions
+ * may be handled at the same time on different threads; records of one partition arrive in
+ * offset order. Throwing makes the consumer retry the whole batch, up to its attempt limit.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@FunctionalInterface
+public interface ProductBatchHandler {
+
+    void handle(TopicPartition partition, List<ConsumerRecord<String, List<Product>>> records);
+}
@@ -0,0 +1,260 @@
+package code.with.vanilson.event;
+
+import code.with.vanilson.metrics.LatencyHistogram;
+import code.with.vanilson.metrics.ThroughputMetrics;
+import code.with.vanilson.producer.Product;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ProductEventConsumer
+ * <p>
+ * Poll loop for product events. Each poll is split by partition and the partitions are handed
+ * to a {@link ProductBatchHandler} in parallel on a worker pool. Once every partition of the
+ * poll is done, the offsets of the successful ones are committed asynchronously. A failed
+ * partition is rewound and paused for the retry backoff, which doubles on every attempt, so its
+ * batch is polled again later. After {@code maxAttempts} failures the batch is handed to the
+ * dead-letter handler and skipped.
+ * <p>
+ * The Kafka consumer is only ever touched by the thread running {@link #run()};
+ * {@link #shutdown()} may be called from any thread.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class ProductEventConsumer implements Runnable {
+    private static final Logger log = LoggerFactory.getLogger(ProductEventConsumer.class);
+
+    private final Consumer<String, List<Product>> consumer;
+    private final String topic;
+    private final ProductBatchHandler handler;
+    private final ExecutorService workers;
+    private final Duration pollTimeout;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final ProductBatchHandler deadLetter;
+    private volatile boolean running = true;
+
+    private final Map<TopicPartition, Integer> attempts = new HashMap<>();
+    private final Map<TopicPartition, Long> pausedUntil = new HashMap<>();
+
+    private final long startedAt = System.nanoTime();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final LatencyHistogram batchLatency = new LatencyHistogram();
+    private final Map<TopicPartition, Long> lag = new ConcurrentHashMap<>();
+
+    public ProductEventConsumer(Consumer<String, List<Product>> consumer,
+                                String topic,
+                                ProductBatchHandler handler,
+                                int workerThreads,
+                                Duration pollTimeout) {
+        this(consumer, topic, handler, workerThreads, pollTimeout, 3, Duration.ofSeconds(1),
+                (partition, records) -> log.error("Skipping {} records of {} from offset {}",
+                        records.size(), partition, records.get(0).offset()));
+    }
+
+    public ProductEventConsumer(Consumer<String, List<Product>> consumer,
+                                String topic,
+                                ProductBatchHandler handler,
+                                int workerThreads,
+                                Duration pollTimeout,
+                                int maxAttempts,
+                                Duration retryBackoff,
+                                ProductBatchHandler deadLetter) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Max attempts must be at least 1 but was " + maxAttempts);
+        }
+        this.consumer = consumer;
+        this.topic = topic;
+        this.handler = handler;
+        this.workers = Executors.newFixedThreadPool(workerThreads);
+        this.pollTimeout = pollTimeout;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.deadLetter = deadLetter;
+    }
+
+    @Override
+    public void run() {
+        try {
+            consumer.subscribe(List.of(topic));
+            while (running) {
+                resumeDuePartitions();
+                ConsumerRecords<String, List<Product>> records = consumer.poll(pollTimeout);
+                if (!records.isEmpty()) {
+                    process(records);
+                }
+                updateLag();
+            }
+        } catch (WakeupException e) {
+            if (running) {
+                throw e;
+            }
+        } finally {
+            try {
+                consumer.commitSync();
+            } catch (RuntimeException e) {
+                log.warn("Could not commit offsets on shutdown: {}", e.getMessage());
+            }
+            consumer.close();
+            workers.shutdown();
+            log.info("Consumer for topic {} stopped: {}", topic, metrics());
+        }
+    }
+
+    private void process(ConsumerRecords<String, List<Product>> records) {
+        Map<TopicPartition, Future<?>> batches = new HashMap<>();
+        for (TopicPartition partition : records.partitions()) {
+            List<ConsumerRecord<String, List<Product>>> batch = records.records(partition);
+            batches.put(partition, workers.submit(() -> {
+                long start = System.nanoTime();
+                handler.handle(partition, batch);
+                batchLatency.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+            }));
+        }
+
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        for (Map.Entry<TopicPartition, Future<?>> entry : batches.entrySet()) {
+            TopicPartition partition = entry.getKey();
+            List<ConsumerRecord<String, List<Product>>> batch = records.records(partition);
+            try {
+                entry.getValue().get();
+                attempts.remove(partition);
+                offsets.put(partition, nextOffset(batch));
+                processed.addAndGet(batch.size());
+            } catch (ExecutionException e) {
+                failed.addAndGet(batch.size());
+                retryOrSkip(partition, batch, e.getCause(), offsets);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+                consumer.seek(partition, batch.get(0).offset());
+            }
+        }
+
+        if (!offsets.isEmpty()) {
+            consumer.commitAsync(offsets, (committed, exception) -> {
+                if (exception != null) {
+                    log.warn("Could not commit offsets {}: {}", committed, exception.getMessage());
+                }
+            });
+        }
+    }
+
+    private void retryOrSkip(TopicPartition partition, List<ConsumerRecord<String, List<Product>>> batch,
+                             Throwable cause, Map<TopicPartition, OffsetAndMetadata> offsets) {
+        int attempt = attempts.merge(partition, 1, Integer::sum);
+        if (attempt < maxAttempts) {
+            long backoffNanos = retryBackoff.toNanos() << Math.min(attempt - 1, 16);
+            log.warn("Failed to process {} records of {} (attempt {} of {}), retrying in {} ms", batch.size(), partition,
+                    attempt, maxAttempts, TimeUnit.NANOSECONDS.toMillis(backoffNanos), cause);
+            rewindAndPause(partition, batch, backoffNanos);
+            return;
+        }
+        log.error("Failed to process {} records of {} after {} attempts", batch.size(), partition, attempt, cause);
+        try {
+            deadLetter.handle(partition, batch);
+        } catch (RuntimeException e) {
+            log.error("Dead-letter handler failed for {}, retrying the batch", partition, e);
+            rewindAndPause(partition, batch, retryBackoff.toNanos());
+            return;
+        }
+        attempts.remove(partition);
+        offsets.put(partition, nextOffset(batch));
+        skipped.addAndGet(batch.size());
+    }
+
+    private void rewindAndPause(TopicPartition partition, List<ConsumerRecord<String, List<Product>>> batch,
+                                long backoffNanos) {
+        consumer.seek(partition, batch.get(0).offset());
+        consumer.pause(List.of(partition));
+        pausedUntil.put(partition, System.nanoTime() + backoffNanos);
+    }
+
+    private void resumeDuePartitions() {
+        if (pausedUntil.isEmpty()) {
+            return;
+        }
+        long now = System.nanoTime();
+        Set<TopicPartition> assigned = consumer.assignment();
+        List<TopicPartition> due = new ArrayList<>();
+        pausedUntil.entrySet().removeIf(entry -> {
+            boolean expired = now - entry.getValue() >= 0 || !assigned.contains(entry.getKey());
+            if (expired && assigned.contains(entry.getKey())) {
+                due.add(entry.getKey());
+            }
+            return expired;
+        });
+        if (!due.isEmpty()) {
+            consumer.resume(due);
+        }
+    }
+
+    private static OffsetAndMetadata nextOffset(List<ConsumerRecord<String, List<Product>>> batch) {
+        return new OffsetAndMetadata(batch.get(batch.size() - 1).offset() + 1);
+    }
+
+    private void updateLag() {
+        for (TopicPartition partition : consumer.assignment()) {
+            OptionalLong partitionLag = consumer.currentLag(partition);
+            if (partitionLag.isPresent()) {
+                lag.put(partition, partitionLag.getAsLong());
+            }
+        }
+        lag.keySet().retainAll(consumer.assignment());
+    }
+
+    /**
+     * Stops the poll loop; {@link #run()} commits, closes the consumer and returns.
+     */
+    public void shutdown() {
+        running = false;
+        consumer.wakeup();
+    }
+
+    /**
+     * @return records processed per second and the per-batch processing latency in microseconds
+     */
+    public ThroughputMetrics metrics() {
+        return new ThroughputMetrics(processed.get(), failed.get(),
+                Duration.ofNanos(System.nanoTime() - startedAt), batchLatency.snapshot());
+    }
+
+    /**
+     * @return the number of records behind the end of each assigned partition, as of the last poll
+     */
+    public Map<TopicPartition, Long> lag() {
+        return Map.copyOf(lag);
+    }
+
+    /**
+     * @return the number of records handed to the dead-letter handler and skipped
+     */
+    public long skipped() {
+        return skipped.get();
+    }
+}
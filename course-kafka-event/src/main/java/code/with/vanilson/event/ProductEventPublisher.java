@@ -0,0 +1,122 @@
+package code.with.vanilson.event;
+
+import code.with.vanilson.metrics.LatencyHistogram;
+import code.with.vanilson.metrics.ThroughputMetrics;
+import code.with.vanilson.producer.Product;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ProductEventPublisher
+ * <p>
+ * Long-lived wrapper around a single {@link Producer}. Sends are pipelined: {@link #send} returns
+ * as soon as the record is handed to the producer, which is then free to batch, linger and
+ * compress. At most {@code maxInFlight} records may wait for an acknowledgement; once the window
+ * is full, {@link #send} blocks until the broker catches up.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class ProductEventPublisher implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(ProductEventPublisher.class);
+
+    private final Producer<String, List<Product>> producer;
+    private final String topic;
+    private final int maxInFlight;
+    private final Semaphore window;
+
+    private final long startedAt = System.nanoTime();
+    private final AtomicLong acknowledged = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    public ProductEventPublisher(Producer<String, List<Product>> producer, String topic, int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("In-flight window must be at least 1 but was " + maxInFlight);
+        }
+        this.producer = producer;
+        this.topic = topic;
+        this.maxInFlight = maxInFlight;
+        this.window = new Semaphore(maxInFlight);
+    }
+
+    /**
+     * Sends one record, blocking only while the in-flight window is full.
+     *
+     * @return a future completed with the record metadata once the broker acknowledged it
+     */
+    public CompletableFuture<RecordMetadata> send(String key, List<Product> products) {
+        return send(key, products, System.nanoTime());
+    }
+
+    /**
+     * Like {@link #send(String, List)}, but the acknowledgement latency is measured from
+     * {@code scheduledAt} ({@link System#nanoTime()} based), the moment a paced sender meant to send
+     * the record. Time spent behind schedule or waiting for the in-flight window is then part of the
+     * latency instead of being hidden (coordinated omission).
+     */
+    public CompletableFuture<RecordMetadata> send(String key, List<Product> products, long scheduledAt) {
+        try {
+            window.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<RecordMetadata> acknowledgement = new CompletableFuture<>();
+        try {
+            producer.send(new ProducerRecord<>(topic, key, products), (metadata, exception) -> {
+                window.release();
+                if (exception != null) {
+                    failed.incrementAndGet();
+                    acknowledgement.completeExceptionally(exception);
+                } else {
+                    latency.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduledAt));
+                    acknowledged.incrementAndGet();
+                    acknowledgement.complete(metadata);
+                }
+            });
+        } catch (RuntimeException e) {
+            window.release();
+            failed.incrementAndGet();
+            acknowledgement.completeExceptionally(e);
+        }
+        return acknowledgement;
+    }
+
+    public void flush() {
+        producer.flush();
+    }
+
+    /**
+     * @return the number of records sent but not acknowledged yet
+     */
+    public int inFlight() {
+        return maxInFlight - window.availablePermits();
+    }
+
+    public ThroughputMetrics metrics() {
+        return new ThroughputMetrics(acknowledged.get(), failed.get(),
+                Duration.ofNanos(System.nanoTime() - startedAt), latency.snapshot());
+    }
+
+    /**
+     * Flushes every pending record and closes the producer.
+     */
+    @Override
+    public void close() {
+        producer.flush();
+        producer.close();
+        log.info("Publisher for topic {} closed: {}", topic, metrics());
+    }
+}
@@ -0,0 +1,103 @@
+package code.with.vanilson.load;
+
+import code.with.vanilson.event.ProductEventPublisher;
+import code.with.vanilson.metrics.ThroughputMetrics;
+import code.with.vanilson.producer.Product;
+import org.apache.kafka.clients.producer.Producer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+
+/**
+ * LoadGenerator
+ * <p>
+ * Drives a producer at a configurable rate so brokers and producer settings
+ * ({@code batch.size}, {@code linger.ms}, {@code compression.type}) can be sized against a
+ * known load. Each sending thread paces itself to its share of the target rate; the report
+ * contains the achieved throughput and the acknowledgement latency percentiles. Under a target
+ * rate, latency is measured from the scheduled send time, so a sender falling behind shows up
+ * in the percentiles.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class LoadGenerator {
+    private static final Logger log = LoggerFactory.getLogger(LoadGenerator.class);
+
+    private final LoadSettings settings;
+    private final List<Product> catalogue;
+
+    public LoadGenerator(LoadSettings settings) {
+        this.settings = settings;
+        this.catalogue = IntStream.range(0, settings.maxProducts())
+                .mapToObj(i -> new Product("Product " + i, 1 + i % 25, BigDecimal.valueOf(999 + i * 100L, 2), "v" + i % 3))
+                .toList();
+    }
+
+    /**
+     * Sends the configured load through {@code producer} and closes it.
+     *
+     * @return the throughput and acknowledgement latency (microseconds) of the run
+     */
+    public ThroughputMetrics run(Producer<String, List<Product>> producer, String topic) {
+        AtomicLong remaining = new AtomicLong(settings.messages() > 0 ? settings.messages() : Long.MAX_VALUE);
+        long deadline = settings.duration().isZero()
+                ? Long.MAX_VALUE
+                : System.nanoTime() + settings.duration().toNanos();
+        long intervalNanos = settings.rate() > 0
+                ? TimeUnit.SECONDS.toNanos(settings.threads()) / settings.rate()
+                : 0;
+
+        ThroughputMetrics metrics;
+        try (ProductEventPublisher publisher = new ProductEventPublisher(producer, topic, settings.maxInFlight())) {
+            List<Thread> senders = new ArrayList<>(settings.threads());
+            for (int i = 0; i < settings.threads(); i++) {
+                Thread sender = new Thread(() -> send(publisher, remaining, deadline, intervalNanos), "load-sender-" + i);
+                sender.start();
+                senders.add(sender);
+            }
+            for (Thread sender : senders) {
+                try {
+                    sender.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    remaining.set(0);
+                }
+            }
+            publisher.flush();
+            metrics = publisher.metrics();
+        }
+        log.info("Load run finished: {}", metrics);
+        return metrics;
+    }
+
+    private void send(ProductEventPublisher publisher, AtomicLong remaining, long deadline, long intervalNanos) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long next = System.nanoTime();
+        while (remaining.getAndDecrement() > 0 && System.nanoTime() < deadline) {
+            long scheduledAt;
+            if (intervalNanos > 0) {
+                long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                scheduledAt = next;
+                next += intervalNanos;
+            } else {
+                scheduledAt = System.nanoTime();
+            }
+            String key = "truck_id " + random.nextInt(settings.keys());
+            int size = random.nextInt(settings.minProducts(), settings.maxProducts() + 1);
+            publisher.send(key, catalogue.subList(0, size), scheduledAt);
+        }
+    }
+}
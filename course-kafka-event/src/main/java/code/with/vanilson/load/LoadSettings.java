@@ -0,0 +1,69 @@
+package code.with.vanilson.load;
+
+import code.with.vanilson.mapper.ProductWireFormat;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * LoadSettings
+ * <p>
+ * What the {@link LoadGenerator} should send. Either {@code messages} or {@code duration} ends
+ * the run, whichever comes first; {@code 0} disables that limit.
+ *
+ * @param messages    total number of messages to send, {@code 0} for no limit
+ * @param duration    how long to keep sending, {@link Duration#ZERO} for no limit
+ * @param rate        target messages per second over all threads, {@code 0} for as fast as possible
+ * @param keys        number of distinct record keys
+ * @param minProducts smallest number of products in a message
+ * @param maxProducts largest number of products in a message, sizes are uniformly distributed
+ * @param threads     number of sending threads sharing the producer
+ * @param maxInFlight maximum number of unacknowledged messages
+ * @param wireFormat  encoding of the product lists
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record LoadSettings(long messages,
+                           Duration duration,
+                           int rate,
+                           int keys,
+                           int minProducts,
+                           int maxProducts,
+                           int threads,
+                           int maxInFlight,
+                           ProductWireFormat wireFormat) {
+
+    public LoadSettings {
+        if (messages == 0 && duration.isZero()) {
+            throw new IllegalArgumentException("Either messages or duration must be set");
+        }
+        if (keys < 1 || threads < 1 || maxInFlight < 1) {
+            throw new IllegalArgumentException("keys, threads and max-in-flight must be at least 1");
+        }
+        if (minProducts < 1 || maxProducts < minProducts) {
+            throw new IllegalArgumentException("Expected 1 <= min-products <= max-products but was "
+                    + minProducts + " and " + maxProducts);
+        }
+    }
+
+    /**
+     * Reads the settings from properties such as {@code messages=100000} or {@code rate=5000};
+     * unset properties fall back to a 10,000 message run on one thread. When only
+     * {@code duration-seconds} is given, the run is limited by time alone.
+     */
+    public static LoadSettings from(Properties properties) {
+        String defaultMessages = properties.containsKey("duration-seconds") ? "0" : "10000";
+        return new LoadSettings(
+                Long.parseLong(properties.getProperty("messages", defaultMessages)),
+                Duration.ofSeconds(Long.parseLong(properties.getProperty("duration-seconds", "0"))),
+                Integer.parseInt(properties.getProperty("rate", "0")),
+                Integer.parseInt(properties.getProperty("keys", "100")),
+                Integer.parseInt(properties.getProperty("min-products", "1")),
+                Integer.parseInt(properties.getProperty("max-products", "10")),
+                Integer.parseInt(properties.getProperty("threads", "1")),
+                Integer.parseInt(properties.getProperty("max-in-flight", "10000")),
+                ProductWireFormat.valueOf(properties.getProperty("format", "json").toUpperCase(Locale.ROOT)));
+    }
+}
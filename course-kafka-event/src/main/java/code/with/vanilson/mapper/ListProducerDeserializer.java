@@ -0,0 +1,39 @@
+package code.with.vanilson.mapper;
+
+import code.with.vanilson.producer.Product;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * ListProducerDeserializer
+ * <p>
+ * Reads the JSON written by {@link ListProducerSerializer}.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class ListProducerDeserializer implements Deserializer<List<Product>> {
+
+    private static final ObjectReader READER = new ObjectMapper()
+            .readerFor(new TypeReference<List<Product>>() {
+            });
+
+    @Override
+    public List<Product> deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return READER.readValue(data);
+        } catch (IOException e) {
+            throw new SerializationException("Couldn't deserialize products from topic " + topic, e);
+        }
+    }
+}
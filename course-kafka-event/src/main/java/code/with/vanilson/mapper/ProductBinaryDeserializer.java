@@ -0,0 +1,104 @@
+package code.with.vanilson.mapper;
+
+import code.with.vanilson.producer.Product;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static code.with.vanilson.mapper.ProductBinaryFormat.*;
+
+/**
+ * ProductBinaryDeserializer
+ * <p>
+ * Reads what {@link ProductBinarySerializer} wrote, rejecting payloads of an unknown version.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class ProductBinaryDeserializer implements Deserializer<List<Product>> {
+
+    @Override
+    public List<Product> deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        ByteBuffer in = ByteBuffer.wrap(data);
+        try {
+            byte version = in.get();
+            if (version != VERSION) {
+                throw new SerializationException("Unsupported product schema version " + version
+                        + " on topic " + topic + ", expected " + VERSION);
+            }
+            int count = Math.toIntExact(readVarLong(in));
+            List<Product> products = new ArrayList<>(Math.min(count, in.remaining()));
+            for (int i = 0; i < count; i++) {
+                String name = readString(in);
+                int quantity = Math.toIntExact(unZigZag(readVarLong(in)));
+                BigDecimal price = readPrice(in);
+                products.add(new Product(name, quantity, price, readString(in)));
+            }
+            if (in.hasRemaining()) {
+                throw new SerializationException(in.remaining() + " unexpected trailing bytes on topic " + topic);
+            }
+            return Collections.unmodifiableList(products);
+        } catch (BufferUnderflowException | ArithmeticException e) {
+            throw new SerializationException("Corrupt product payload on topic " + topic, e);
+        }
+    }
+
+    private static BigDecimal readPrice(ByteBuffer in) {
+        byte kind = in.get();
+        return switch (kind) {
+            case PRICE_NULL -> null;
+            case PRICE_LONG -> {
+                int scale = Math.toIntExact(unZigZag(readVarLong(in)));
+                yield BigDecimal.valueOf(unZigZag(readVarLong(in)), scale);
+            }
+            case PRICE_BIG -> {
+                int scale = Math.toIntExact(unZigZag(readVarLong(in)));
+                byte[] bytes = new byte[checkedLength(in, readVarLong(in))];
+                in.get(bytes);
+                yield new BigDecimal(new BigInteger(bytes), scale);
+            }
+            default -> throw new SerializationException("Unknown price encoding " + kind);
+        };
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = Math.toIntExact(readVarLong(in));
+        if (length == 0) {
+            return null;
+        }
+        byte[] bytes = new byte[checkedLength(in, length - 1L)];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int checkedLength(ByteBuffer in, long length) {
+        if (length < 0 || length > in.remaining()) {
+            throw new SerializationException("Length " + length + " exceeds the " + in.remaining() + " bytes left");
+        }
+        return (int) length;
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new SerializationException("Malformed varint");
+    }
+}
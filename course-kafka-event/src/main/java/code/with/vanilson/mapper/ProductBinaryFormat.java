@@ -0,0 +1,39 @@
+package code.with.vanilson.mapper;
+
+/**
+ * ProductBinaryFormat
+ * <p>
+ * Layout shared by {@link ProductBinarySerializer} and {@link ProductBinaryDeserializer}:
+ * <pre>
+ * message  := version:byte count:varint product*
+ * product  := name:string quantity:zigzag-varint price version:string
+ * price    := 0                                          (null)
+ *           | 1 scale:zigzag-varint unscaled:zigzag-varlong  (unscaled value fits in a long)
+ *           | 2 scale:zigzag-varint length:varint bytes      (two's-complement big integer)
+ * string   := 0 (null) | length+1:varint utf8-bytes
+ * </pre>
+ * The version byte is bumped whenever the layout changes; readers reject versions they do not know.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+final class ProductBinaryFormat {
+    static final byte VERSION = 1;
+
+    static final byte PRICE_NULL = 0;
+    static final byte PRICE_LONG = 1;
+    static final byte PRICE_BIG = 2;
+
+    private ProductBinaryFormat() {
+        throw new AssertionError("This class cannot be instantiated");
+    }
+
+    static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
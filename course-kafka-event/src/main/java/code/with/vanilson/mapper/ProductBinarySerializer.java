@@ -0,0 +1,121 @@
+package code.with.vanilson.mapper;
+
+import code.with.vanilson.producer.Product;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static code.with.vanilson.mapper.ProductBinaryFormat.*;
+
+/**
+ * ProductBinarySerializer
+ * <p>
+ * Compact alternative to {@link ListProducerSerializer}: no field names, varint quantities and
+ * prices as a scale plus an unscaled long. See {@link ProductBinaryFormat} for the layout.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class ProductBinarySerializer implements Serializer<List<Product>> {
+
+    private static final ThreadLocal<Output> BUFFERS = ThreadLocal.withInitial(() -> new Output(512));
+
+    @Override
+    public byte[] serialize(String topic, List<Product> data) {
+        if (data == null) {
+            return null;
+        }
+        Output out = BUFFERS.get();
+        out.reset();
+        out.writeByte(VERSION);
+        out.writeVarLong(data.size());
+        for (Product product : data) {
+            if (product == null) {
+                throw new SerializationException("Cannot serialize a null product for topic " + topic);
+            }
+            out.writeString(product.name());
+            out.writeVarLong(zigZag(product.quantiy()));
+            writePrice(out, product.price());
+            out.writeString(product.version());
+        }
+        return out.toByteArray();
+    }
+
+    private static void writePrice(Output out, BigDecimal price) {
+        if (price == null) {
+            out.writeByte(PRICE_NULL);
+            return;
+        }
+        BigInteger unscaled = price.unscaledValue();
+        if (unscaled.bitLength() < Long.SIZE) {
+            out.writeByte(PRICE_LONG);
+            out.writeVarLong(zigZag(price.scale()));
+            out.writeVarLong(zigZag(unscaled.longValue()));
+        } else {
+            byte[] bytes = unscaled.toByteArray();
+            out.writeByte(PRICE_BIG);
+            out.writeVarLong(zigZag(price.scale()));
+            out.writeVarLong(bytes.length);
+            out.writeBytes(bytes);
+        }
+    }
+
+    private static final class Output {
+        private byte[] buffer;
+        private int position;
+
+        private Output(int initialCapacity) {
+            this.buffer = new byte[initialCapacity];
+        }
+
+        void reset() {
+            position = 0;
+        }
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[position++] = (byte) value;
+        }
+
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void writeBytes(byte[] bytes) {
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeVarLong(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length + 1L);
+            writeBytes(bytes);
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private void ensureCapacity(int extra) {
+            if (position + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+            }
+        }
+    }
+}
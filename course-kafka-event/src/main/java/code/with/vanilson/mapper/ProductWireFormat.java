@@ -0,0 +1,40 @@
+package code.with.vanilson.mapper;
+
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * ProductWireFormat
+ * <p>
+ * The encodings available for product events on the wire.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public enum ProductWireFormat {
+    /**
+     * Self-describing JSON, readable by any consumer.
+     */
+    JSON(ListProducerSerializer.class, ListProducerDeserializer.class),
+    /**
+     * Versioned compact binary layout described in {@link ProductBinaryFormat}.
+     */
+    BINARY(ProductBinarySerializer.class, ProductBinaryDeserializer.class);
+
+    private final Class<? extends Serializer<?>> serializer;
+    private final Class<? extends Deserializer<?>> deserializer;
+
+    ProductWireFormat(Class<? extends Serializer<?>> serializer, Class<? extends Deserializer<?>> deserializer) {
+        this.serializer = serializer;
+        this.deserializer = deserializer;
+    }
+
+    public Class<? extends Serializer<?>> serializer() {
+        return serializer;
+    }
+
+    public Class<? extends Deserializer<?>> deserializer() {
+        return deserializer;
+    }
+}
@@ -0,0 +1,34 @@
+package code.with.vanilson.metrics;
+
+import java.time.Duration;
+
+/**
+ * ThroughputMetrics
+ * <p>
+ * Snapshot of how many records a component handled and how long each one took.
+ *
+ * @param succeeded      records handled successfully
+ * @param failed         records that failed
+ * @param elapsed        time since the component started
+ * @param latencyMicros  latency distribution of the handled records, in microseconds
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record ThroughputMetrics(long succeeded,
+                                long failed,
+                                Duration elapsed,
+                                LatencyHistogram.LatencySnapshot latencyMicros) {
+
+    public double recordsPerSecond() {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : succeeded * 1_000_000_000d / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return "%d ok, %d failed in %d ms (%.1f records/s), latency us p50=%d p99=%d p999=%d max=%d".formatted(
+                succeeded, failed, elapsed.toMillis(), recordsPerSecond(),
+                latencyMicros.p50(), latencyMicros.p99(), latencyMicros.p999(), latencyMicros.max());
+    }
+}
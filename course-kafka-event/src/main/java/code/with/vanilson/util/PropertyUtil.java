@@ -12,6 +12,8 @@ public class PropertyUtil {
 
     public static final String BOOTSTRAP_SERVERS = "bootstrap.servers";
     public static final String HOSTNAME = "localhost:9092";
+    public static final String BOOTSTRAP_SERVERS_PROPERTY = "kafka.bootstrap.servers";
+    public static final String BOOTSTRAP_SERVERS_ENV = "KAFKA_BOOTSTRAP_SERVERS";
     public static final String TOPIC = "twitter-topic";
     public static final String ACKS = "acks";
     public static final String PRODUCER_KEY_SERIALIZER = "key.serializer";
@@ -21,8 +23,20 @@ public class PropertyUtil {
     public static final String CONSUMER_VALUE_DESERIALIZER = "value.deserializer";
     public static final String GROUP_ID = "group.id";
     public static final String AUTO_OFFSET_RESET = "auto.offset.reset";
+    public static final String ENABLE_AUTO_COMMIT = "enable.auto.commit";
+    public static final String MAX_POLL_RECORDS = "max.poll.records";
+    public static final String CONSUMER_GROUP = "product-events";
 
     private PropertyUtil() {
         throw new AssertionError("This class cannot be instantiated");
     }
+
+    /**
+     * @return the {@code kafka.bootstrap.servers} system property, else the
+     * {@code KAFKA_BOOTSTRAP_SERVERS} environment variable, else {@link #HOSTNAME}
+     */
+    public static String bootstrapServers() {
+        String servers = System.getProperty(BOOTSTRAP_SERVERS_PROPERTY, System.getenv(BOOTSTRAP_SERVERS_ENV));
+        return servers == null || servers.isBlank() ? HOSTNAME : servers;
+    }
 }
\ No newline at end of file
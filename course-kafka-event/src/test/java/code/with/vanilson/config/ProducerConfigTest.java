@@ -0,0 +1,73 @@
+package code.with.vanilson.config;
+
+import code.with.vanilson.mapper.ProductWireFormat;
+import org.apache.kafka.common.config.ConfigException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ProducerConfigTest {
+
+    @Test
+    void defaultsToDurableProfile() {
+        Properties props = ProducerConfig.resolve(ProductWireFormat.JSON, Map.of(), new Properties(), new Properties());
+
+        assertEquals("all", props.getProperty("acks"));
+        assertEquals("true", props.getProperty("enable.idempotence"));
+        assertEquals("5", props.getProperty("linger.ms"));
+    }
+
+    @Test
+    void everyProfileIsValid() {
+        for (ProducerProfile profile : ProducerProfile.values()) {
+            Properties props = ProducerConfig.getKafkaProperties(ProductWireFormat.BINARY, profile, new Properties());
+            assertEquals(profile.settings().get("linger.ms"), props.getProperty("linger.ms"));
+        }
+    }
+
+    @Test
+    void layersFileEnvironmentAndSystemProperties(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("producer.properties");
+        Files.writeString(file, "batch.size=65536\nlinger.ms=50\ncompression.type=gzip\n");
+        Map<String, String> env = Map.of(
+                "KAFKA_PRODUCER_PROFILE", "high-throughput",
+                "KAFKA_PRODUCER_CONFIG", file.toString(),
+                "KAFKA_PRODUCER_LINGER_MS", "40");
+        Properties system = new Properties();
+        system.setProperty("kafka.producer.compression.type", "zstd");
+
+        Properties props = ProducerConfig.resolve(ProductWireFormat.JSON, env, system, new Properties());
+
+        assertEquals("1", props.getProperty("acks"));
+        assertEquals("65536", props.getProperty("batch.size"));
+        assertEquals("40", props.getProperty("linger.ms"));
+        assertEquals("zstd", props.getProperty("compression.type"));
+    }
+
+    @Test
+    void rejectsUnknownKeys() {
+        Properties overrides = new Properties();
+        overrides.setProperty("linger.ms.config", "3");
+
+        assertThrows(ConfigException.class,
+                () -> ProducerConfig.getKafkaProperties(ProductWireFormat.JSON, ProducerProfile.DURABLE, overrides));
+    }
+
+    @Test
+    void rejectsInvalidValues() {
+        Properties overrides = new Properties();
+        overrides.setProperty("compression.type", "brotli");
+
+        assertThrows(ConfigException.class,
+                () -> ProducerConfig.getKafkaProperties(ProductWireFormat.JSON, ProducerProfile.LOW_LATENCY, overrides));
+        assertThrows(IllegalArgumentException.class, () -> ProducerProfile.of("fastest"));
+    }
+}
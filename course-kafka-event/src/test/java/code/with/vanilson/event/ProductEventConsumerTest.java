@@ -0,0 +1,155 @@
+package code.with.vanilson.event;
+
+import code.with.vanilson.producer.Product;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ProductEventConsumerTest {
+    private static final String TOPIC = "twitter-topic";
+    private static final TopicPartition PARTITION_0 = new TopicPartition(TOPIC, 0);
+    private static final TopicPartition PARTITION_1 = new TopicPartition(TOPIC, 1);
+    private static final List<Product> PRODUCTS = List.of(new Product("Tv", 12, BigDecimal.valueOf(100), "v1"));
+
+    private final Map<TopicPartition, OffsetAndMetadata> committedOnClose = new ConcurrentHashMap<>();
+    private final MockConsumer<String, List<Product>> mockConsumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST) {
+        @Override
+        public synchronized void close() {
+            committed(assignment()).forEach((partition, offset) -> {
+                if (offset != null) {
+                    committedOnClose.put(partition, offset);
+                }
+            });
+            super.close();
+        }
+    };
+    private final Map<TopicPartition, Integer> handled = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        mockConsumer.updateBeginningOffsets(Map.of(PARTITION_0, 0L, PARTITION_1, 0L));
+        mockConsumer.updateEndOffsets(Map.of(PARTITION_0, 3L, PARTITION_1, 2L));
+    }
+
+    @Test
+    void processesPartitionsAndCommitsOffsets() {
+        var consumer = new ProductEventConsumer(mockConsumer, TOPIC,
+                (partition, records) -> handled.merge(partition, records.size(), Integer::sum), 2, Duration.ofMillis(10));
+        mockConsumer.schedulePollTask(() -> {
+            mockConsumer.rebalance(List.of(PARTITION_0, PARTITION_1));
+            addRecords(PARTITION_0, 3);
+            addRecords(PARTITION_1, 2);
+        });
+        mockConsumer.schedulePollTask(() -> {
+        });
+        mockConsumer.schedulePollTask(consumer::shutdown);
+
+        consumer.run();
+
+        assertEquals(Map.of(PARTITION_0, 3, PARTITION_1, 2), handled);
+        assertEquals(Map.of(PARTITION_0, new OffsetAndMetadata(3), PARTITION_1, new OffsetAndMetadata(2)),
+                committedOnClose);
+        assertEquals(5, consumer.metrics().succeeded());
+        assertEquals(Map.of(PARTITION_0, 0L, PARTITION_1, 0L), consumer.lag());
+    }
+
+    @Test
+    void failedBatchIsPolledAgain() {
+        AtomicBoolean failOnce = new AtomicBoolean(true);
+        var consumer = new ProductEventConsumer(mockConsumer, TOPIC, (partition, records) -> {
+            if (partition.equals(PARTITION_0) && failOnce.getAndSet(false)) {
+                throw new IllegalStateException("downstream unavailable");
+            }
+            handled.merge(partition, records.size(), Integer::sum);
+        }, 2, Duration.ofMillis(10), 3, Duration.ZERO, (partition, records) -> {
+            throw new AssertionError("nothing should be dead-lettered");
+        });
+        mockConsumer.schedulePollTask(() -> {
+            mockConsumer.rebalance(List.of(PARTITION_0, PARTITION_1));
+            addRecords(PARTITION_0, 3);
+            addRecords(PARTITION_1, 2);
+        });
+        mockConsumer.schedulePollTask(() -> addRecords(PARTITION_0, 3));
+        mockConsumer.schedulePollTask(consumer::shutdown);
+
+        consumer.run();
+
+        assertEquals(Map.of(PARTITION_0, 3, PARTITION_1, 2), handled);
+        assertEquals(3, consumer.metrics().failed());
+        assertEquals(new OffsetAndMetadata(3), committedOnClose.get(PARTITION_0));
+    }
+
+    @Test
+    void batchFailingEveryAttemptIsDeadLetteredAndSkipped() {
+        Map<TopicPartition, Integer> deadLettered = new ConcurrentHashMap<>();
+        AtomicInteger attempts = new AtomicInteger();
+        var consumer = new ProductEventConsumer(mockConsumer, TOPIC, (partition, records) -> {
+            if (partition.equals(PARTITION_0)) {
+                attempts.incrementAndGet();
+                throw new IllegalStateException("poison record");
+            }
+            handled.merge(partition, records.size(), Integer::sum);
+        }, 2, Duration.ofMillis(10), 2, Duration.ZERO,
+                (partition, records) -> deadLettered.merge(partition, records.size(), Integer::sum));
+        mockConsumer.schedulePollTask(() -> {
+            mockConsumer.rebalance(List.of(PARTITION_0, PARTITION_1));
+            addRecords(PARTITION_0, 3);
+            addRecords(PARTITION_1, 2);
+        });
+        mockConsumer.schedulePollTask(() -> addRecords(PARTITION_0, 3));
+        mockConsumer.schedulePollTask(() -> {
+        });
+        mockConsumer.schedulePollTask(consumer::shutdown);
+
+        consumer.run();
+
+        assertEquals(2, attempts.get());
+        assertEquals(Map.of(PARTITION_0, 3), deadLettered);
+        assertEquals(3, consumer.skipped());
+        assertEquals(new OffsetAndMetadata(3), committedOnClose.get(PARTITION_0));
+    }
+
+    @Test
+    void failedPartitionIsPausedForTheBackoff() {
+        var consumer = new ProductEventConsumer(mockConsumer, TOPIC, (partition, records) -> {
+            if (partition.equals(PARTITION_0)) {
+                throw new IllegalStateException("downstream unavailable");
+            }
+        }, 2, Duration.ofMillis(10), 3, Duration.ofMinutes(1), (partition, records) -> {
+        });
+        mockConsumer.schedulePollTask(() -> {
+            mockConsumer.rebalance(List.of(PARTITION_0, PARTITION_1));
+            addRecords(PARTITION_0, 3);
+        });
+        mockConsumer.schedulePollTask(() -> {
+            assertEquals(Set.of(PARTITION_0), mockConsumer.paused());
+            consumer.shutdown();
+        });
+
+        consumer.run();
+
+        assertEquals(3, consumer.metrics().failed());
+        assertEquals(0, consumer.skipped());
+    }
+
+    private void addRecords(TopicPartition partition, int count) {
+        for (int offset = 0; offset < count; offset++) {
+            mockConsumer.addRecord(new ConsumerRecord<>(TOPIC, partition.partition(), offset, "truck_id " + offset, PRODUCTS));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package code.with.vanilson.event;
+
+import code.with.vanilson.mapper.ListProducerSerializer;
+import code.with.vanilson.producer.Product;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProductEventPublisherTest {
+    private static final List<Product> PRODUCTS = List.of(new Product("Tv", 12, BigDecimal.valueOf(100), "v1"));
+
+    @Test
+    void reusesOneProducerForAllRecords() {
+        var producer = new MockProducer<>(true, new StringSerializer(), new ListProducerSerializer());
+        try (var publisher = new ProductEventPublisher(producer, "twitter-topic", 10)) {
+            for (int i = 0; i < 20; i++) {
+                publisher.send("truck_id " + i, PRODUCTS);
+            }
+            assertEquals(20, publisher.metrics().succeeded());
+            assertEquals(20, publisher.metrics().latencyMicros().count());
+        }
+        assertEquals(20, producer.history().size());
+        assertTrue(producer.closed());
+    }
+
+    @Test
+    void blocksWhenInFlightWindowIsFull() throws Exception {
+        var producer = new MockProducer<>(false, new StringSerializer(), new ListProducerSerializer());
+        var publisher = new ProductEventPublisher(producer, "twitter-topic", 2);
+        publisher.send("a", PRODUCTS);
+        publisher.send("b", PRODUCTS);
+        assertEquals(2, publisher.inFlight());
+
+        CompletableFuture<CompletableFuture<RecordMetadata>> third =
+                CompletableFuture.supplyAsync(() -> publisher.send("c", PRODUCTS));
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertFalse(third.isDone());
+
+        producer.completeNext();
+        third.get(5, TimeUnit.SECONDS);
+        assertEquals(2, publisher.inFlight());
+    }
+
+    @Test
+    void countsFailedSends() {
+        var producer = new MockProducer<>(false, new StringSerializer(), new ListProducerSerializer());
+        var publisher = new ProductEventPublisher(producer, "twitter-topic", 2);
+        CompletableFuture<RecordMetadata> acknowledgement = publisher.send("a", PRODUCTS);
+
+        producer.errorNext(new IllegalStateException("broker unavailable"));
+
+        assertTrue(acknowledgement.isCompletedExceptionally());
+        assertEquals(1, publisher.metrics().failed());
+        assertEquals(0, publisher.inFlight());
+    }
+}
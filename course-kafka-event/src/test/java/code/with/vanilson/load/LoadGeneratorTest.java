@@ -0,0 +1,114 @@
+package code.with.vanilson.load;
+
+import code.with.vanilson.mapper.ListProducerSerializer;
+import code.with.vanilson.mapper.ProductWireFormat;
+import code.with.vanilson.metrics.ThroughputMetrics;
+import code.with.vanilson.producer.Product;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoadGeneratorTest {
+
+    @Test
+    void sendsConfiguredNumberOfMessagesOverAllThreads() {
+        var settings = new LoadSettings(500, Duration.ZERO, 0, 10, 2, 5, 4, 100, ProductWireFormat.JSON);
+        var producer = new MockProducer<>(true, new StringSerializer(), new ListProducerSerializer());
+
+        ThroughputMetrics metrics = new LoadGenerator(settings).run(producer, "load-topic");
+
+        assertEquals(500, metrics.succeeded());
+        assertEquals(500, metrics.latencyMicros().count());
+        List<ProducerRecord<String, List<Product>>> history = producer.history();
+        assertEquals(500, history.size());
+        assertTrue(history.stream().map(ProducerRecord::key).collect(Collectors.toSet()).size() <= 10);
+        assertTrue(history.stream().allMatch(r -> r.value().size() >= 2 && r.value().size() <= 5));
+        assertTrue(producer.closed());
+    }
+
+    @Test
+    void pacesSendsToTargetRate() {
+        var settings = new LoadSettings(100, Duration.ZERO, 500, 1, 1, 1, 2, 100, ProductWireFormat.JSON);
+        var producer = new MockProducer<>(true, new StringSerializer(), new ListProducerSerializer());
+
+        ThroughputMetrics metrics = new LoadGenerator(settings).run(producer, "load-topic");
+
+        assertEquals(100, metrics.succeeded());
+        assertTrue(metrics.elapsed().toMillis() >= 150, "100 messages at 500/s took " + metrics.elapsed());
+    }
+
+    @Test
+    void stopsAfterDurationWhenNoCountIsGiven() {
+        var settings = new LoadSettings(0, Duration.ofMillis(200), 1000, 1, 1, 1, 1, 100, ProductWireFormat.JSON);
+        var producer = new MockProducer<>(true, new StringSerializer(), new ListProducerSerializer());
+
+        ThroughputMetrics metrics = new LoadGenerator(settings).run(producer, "load-topic");
+
+        assertTrue(metrics.succeeded() > 0 && metrics.succeeded() <= 201, "sent " + metrics.succeeded());
+    }
+
+    @Test
+    void readsSettingsFromProperties() {
+        Properties properties = new Properties();
+        properties.setProperty("messages", "42");
+        properties.setProperty("threads", "3");
+        properties.setProperty("format", "binary");
+
+        LoadSettings settings = LoadSettings.from(properties);
+
+        assertEquals(42, settings.messages());
+        assertEquals(3, settings.threads());
+        assertEquals(ProductWireFormat.BINARY, settings.wireFormat());
+        properties.setProperty("min-products", "0");
+        assertThrows(IllegalArgumentException.class, () -> LoadSettings.from(properties));
+    }
+
+    @Test
+    void durationAloneLimitsTheRun() {
+        Properties properties = new Properties();
+        properties.setProperty("duration-seconds", "60");
+
+        LoadSettings settings = LoadSettings.from(properties);
+
+        assertEquals(0, settings.messages());
+        assertEquals(Duration.ofSeconds(60), settings.duration());
+    }
+
+    @Test
+    void latencyIncludesTimeBehindSchedule() {
+        var settings = new LoadSettings(20, Duration.ZERO, 1000, 1, 1, 1, 1, 1, ProductWireFormat.JSON);
+        var producer = new MockProducer<>(false, new StringSerializer(), new ListProducerSerializer());
+        Thread broker = new Thread(() -> {
+            // acknowledges one record every 20 ms while the generator wants one every millisecond
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                producer.completeNext();
+            }
+        });
+        broker.start();
+
+        ThroughputMetrics metrics;
+        try {
+            metrics = new LoadGenerator(settings).run(producer, "load-topic");
+        } finally {
+            broker.interrupt();
+        }
+
+        assertEquals(20, metrics.succeeded());
+        assertTrue(metrics.latencyMicros().max() >= 200_000, "max latency " + metrics.latencyMicros().max());
+    }
+}
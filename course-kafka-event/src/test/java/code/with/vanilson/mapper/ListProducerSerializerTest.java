@@ -0,0 +1,42 @@
+package code.with.vanilson.mapper;
+
+import code.with.vanilson.producer.Product;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ListProducerSerializerTest {
+    private final ListProducerSerializer serializer = new ListProducerSerializer();
+
+    @Test
+    void writesSameJsonAsObjectMapper() throws Exception {
+        List<Product> products = List.of(
+                new Product("Tv", 12, BigDecimal.valueOf(100_00), "v1"),
+                new Product("Xbox", 2, BigDecimal.valueOf(12000.9999), "v1"));
+
+        assertArrayEquals(new ObjectMapper().writeValueAsBytes(products), serializer.serialize("topic", products));
+    }
+
+    @Test
+    void reusedBufferDoesNotLeakPreviousPayload() throws Exception {
+        List<Product> large = IntStream.range(0, 500)
+                .mapToObj(i -> new Product("Product " + i, i, BigDecimal.valueOf(i, 2), "v1"))
+                .toList();
+        List<Product> small = List.of(new Product("Books", 5, BigDecimal.valueOf(100), "v2"));
+
+        serializer.serialize("topic", large);
+
+        assertArrayEquals(new ObjectMapper().writeValueAsBytes(small), serializer.serialize("topic", small));
+    }
+
+    @Test
+    void nullStaysNull() {
+        assertNull(serializer.serialize("topic", null));
+    }
+}
@@ -0,0 +1,68 @@
+package code.with.vanilson.mapper;
+
+import code.with.vanilson.producer.Product;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProductBinarySerializerTest {
+    private final ProductBinarySerializer serializer = new ProductBinarySerializer();
+    private final ProductBinaryDeserializer deserializer = new ProductBinaryDeserializer();
+
+    @Test
+    void roundTripsExactly() {
+        List<Product> products = List.of(
+                new Product("Tv", 12, BigDecimal.valueOf(100_00), "v1"),
+                new Product("Xbox", 2, BigDecimal.valueOf(12000.9999), "v1"),
+                new Product("Mobile", 5, new BigDecimal("13.000"), "v2"),
+                new Product("Café ☕", -3, new BigDecimal("-0.01"), null),
+                new Product(null, Integer.MIN_VALUE, null, "v3"),
+                new Product("Huge", Integer.MAX_VALUE, new BigDecimal("123456789012345678901234567890.123456789"), "v3"));
+
+        assertEquals(products, deserializer.deserialize("topic", serializer.serialize("topic", products)));
+    }
+
+    @Test
+    void emptyAndNullLists() {
+        assertEquals(List.of(), deserializer.deserialize("topic", serializer.serialize("topic", List.of())));
+        assertNull(serializer.serialize("topic", null));
+        assertNull(deserializer.deserialize("topic", null));
+    }
+
+    @Test
+    void rejectsUnknownSchemaVersion() {
+        byte[] payload = serializer.serialize("topic", List.of(new Product("Tv", 1, BigDecimal.ONE, "v1")));
+        payload[0] = (byte) (ProductBinaryFormat.VERSION + 1);
+
+        assertThrows(SerializationException.class, () -> deserializer.deserialize("topic", payload));
+    }
+
+    @Test
+    void rejectsTruncatedPayload() {
+        byte[] payload = serializer.serialize("topic", List.of(new Product("Tv", 1, BigDecimal.ONE, "v1")));
+        byte[] truncated = Arrays.copyOf(payload, payload.length - 2);
+
+        assertThrows(SerializationException.class, () -> deserializer.deserialize("topic", truncated));
+    }
+
+    @Test
+    void isMuchSmallerThanJson() {
+        List<Product> products = IntStream.range(0, 100)
+                .mapToObj(i -> new Product("Product " + i, i, BigDecimal.valueOf(1000 + i, 2), "v1"))
+                .toList();
+
+        int binary = serializer.serialize("topic", products).length;
+        int json = new ListProducerSerializer().serialize("topic", products).length;
+
+        assertTrue(binary * 2 < json, "binary " + binary + " bytes vs json " + json + " bytes");
+    }
+}
@@ -3,12 +3,13 @@ package code.with.vanilson.after.registration;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Document("registrations")
 public record Registration(
         @Id String id,
         @NotNull(message = "Product id is required") Integer productId,
-        String ticketCode,
+        @Indexed(name = "ticketCode_unique", unique = true) String ticketCode,
         @NotBlank(message = "Attendee name is required") String attendeeName) {
 }
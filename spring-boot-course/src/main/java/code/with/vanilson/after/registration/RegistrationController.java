@@ -25,8 +25,8 @@ public class RegistrationController {
     }
 
     @GetMapping(path = "/{ticketCode}")
-    public Registration get(@PathVariable("ticketCode") String ticketCode) {
-        return registrationRepository.findByTicketCode(ticketCode)
+    public RegistrationSummary get(@PathVariable("ticketCode") String ticketCode) {
+        return registrationRepository.findSummaryByTicketCode(ticketCode)
                 .orElseThrow(() -> new NoSuchElementException("Registration with ticket code " + ticketCode + " not found"));
     }
 
@@ -9,5 +9,7 @@ public interface RegistrationRepository extends MongoRepository<Registration, St
 
     Optional<Registration> findByTicketCode(String ticketCode);
 
+    Optional<RegistrationSummary> findSummaryByTicketCode(String ticketCode);
+
     void deleteByTicketCode(String ticketCode);
 }
@@ -0,0 +1,17 @@
+package code.with.vanilson.after.registration;
+
+/**
+ * RegistrationSummary
+ * <p>
+ * Read projection of a {@link Registration}: lookups by ticket code fetch only these fields and
+ * do not expose the internal document id.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record RegistrationSummary(
+        String ticketCode,
+        Integer productId,
+        String attendeeName) {
+}